@@ -1,10 +1,18 @@
-
 import controller.menu.MainMenuController;
+import core.StartupTimer;
+import dao.PersistenceBootstrap;
 
 public class DGMApp {
 
     public static void main(String[] args) {
+        StartupTimer.start();
+
+        // Hibernate inicializa em segundo plano enquanto o menu já aparece
+        if (Boolean.parseBoolean(System.getProperty("dgm.bootstrap.async", "true"))) {
+            PersistenceBootstrap.startInBackground();
+        }
+
         new MainMenuController().runMainMenu();
         System.out.println("Aplicação encerrada.");
     }
-}
\ No newline at end of file
+}
@@ -1,6 +1,7 @@
 package controller.game;
 
 import model.game.Developer;
+import dao.OperationTimeoutException;
 import service.exception.ServiceException;
 import service.exception.ValidationException;
 import service.game.DeveloperService;
@@ -35,7 +36,7 @@ public class DeveloperConfigController {
                         ConsoleUtils.waitEnter();
                         break;
                     case 2:
-                        developerConfigView.renderEntityList(developerService.findAll());
+                        developerConfigView.renderEntityList(developerService.findAllListable());
                         ConsoleUtils.waitEnter();
                         break;
                     case 0:
@@ -51,6 +52,9 @@ public class DeveloperConfigController {
             } catch (ServiceException e) {
                 developerConfigView.renderServiceException(e);
                 ConsoleUtils.waitEnter();
+            } catch (OperationTimeoutException e) {
+                developerConfigView.renderTimeoutException(e);
+                ConsoleUtils.waitEnter();
             } catch (Exception e) {
                 developerConfigView.renderException(e);
                 ConsoleUtils.waitEnter();
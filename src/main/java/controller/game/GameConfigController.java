@@ -5,13 +5,20 @@ import service.game.*;
 import service.exception.ServiceException;
 import service.exception.ValidationException;
 import view.game.GameConfigView;
+import dao.AsyncExecutor;
+import dao.FetchPlan;
+import dao.OperationTimeoutException;
 import dto.GameDTO;
+import dto.ListableDTO;
 import core.Navigation;
 import utils.ConsoleUtils;
 import utils.MyLinkedList;
+import java.util.concurrent.CompletableFuture;
 
 public class GameConfigController {
 
+    private static final int PAGE_SIZE = 20;
+
     private final GameService gameService;
     private final GenreService genreService;
     private final PlatformService platformService;
@@ -58,38 +65,40 @@ public class GameConfigController {
                         ConsoleUtils.waitEnter();
                         break;
                     case 4:
-                        gameConfigView.displayGameList(gameService.findAll());
+                        gameConfigView.browsePages(
+                                afterId -> gameService.findPage(afterId, PAGE_SIZE, FetchPlan.GAME_DETAILS),
+                                gameConfigView::displayGameList);
                         ConsoleUtils.waitEnter();
                         break;
                     case 5:
                         gameConfigView.genericGameFinderString(
                                 "Termo de busca: ",
                                 "termo",
-                                gameService::findByNameContaining);
+                                (term, afterId) -> gameService.findByNameContaining(term, afterId, PAGE_SIZE, FetchPlan.GAME_DETAILS));
                         ConsoleUtils.waitEnter();
                         break;
                     case 6:
-                        gameConfigView.renderEntityList(genreService.findAll());
+                        gameConfigView.renderEntityList(genreService.findAllListable());
                         gameConfigView.genericGameFinderLong(
                                 "ID do gênero: ",
                                 "gênero",
-                                gameService::listByGenreId);
+                                (id, afterId) -> gameService.listByGenreId(id, afterId, PAGE_SIZE, FetchPlan.GAME_DETAILS));
                         ConsoleUtils.waitEnter();
                         break;
                     case 7:
-                        gameConfigView.renderEntityList(platformService.findAll());
+                        gameConfigView.renderEntityList(platformService.findAllListable());
                         gameConfigView.genericGameFinderLong(
                                 "ID da plataforma: ",
                                 "plataforma",
-                                gameService::listByPlatformId);
+                                (id, afterId) -> gameService.listByPlatformId(id, afterId, PAGE_SIZE, FetchPlan.GAME_DETAILS));
                         ConsoleUtils.waitEnter();
                         break;
                     case 8:
-                        gameConfigView.renderEntityList(developerService.findAll());
+                        gameConfigView.renderEntityList(developerService.findAllListable());
                         gameConfigView.genericGameFinderLong(
                                 "ID do desenvolvedor: ",
                                 "desenvolvedor",
-                                gameService::listByDeveloperId);
+                                (id, afterId) -> gameService.listByDeveloperId(id, afterId, PAGE_SIZE, FetchPlan.GAME_DETAILS));
                         ConsoleUtils.waitEnter();
                         break;
                     case 0:
@@ -105,6 +114,9 @@ public class GameConfigController {
             } catch (ServiceException e) {
                 gameConfigView.renderServiceException(e);
                 ConsoleUtils.waitEnter();
+            } catch (OperationTimeoutException e) {
+                gameConfigView.renderTimeoutException(e);
+                ConsoleUtils.waitEnter();
             } catch (Exception e) {
                 gameConfigView.renderException(e);
                 ConsoleUtils.waitEnter();
@@ -113,11 +125,16 @@ public class GameConfigController {
     }
 
     private void createGame() throws ServiceException, ValidationException {
-        MyLinkedList<Genre> genres = genreService.findAll();
-        MyLinkedList<Platform> platforms = platformService.findAll();
-        MyLinkedList<Developer> devs = developerService.findAll();
-
-        GameDTO dto = gameConfigView.promptGameCreation(genres, platforms, devs);
+        // As três listas são independentes: consultadas em paralelo
+        CompletableFuture<MyLinkedList<ListableDTO>> genres = genreService.findAllListableAsync();
+        CompletableFuture<MyLinkedList<ListableDTO>> platforms = platformService.findAllListableAsync();
+        CompletableFuture<MyLinkedList<ListableDTO>> devs = developerService.findAllListableAsync();
+
+        GameDTO dto = gameConfigView.promptGameCreation(
+                AsyncExecutor.await(genres),
+                AsyncExecutor.await(platforms),
+                AsyncExecutor.await(devs)
+        );
 
         Game created;
         created = gameService.createGame(
@@ -133,13 +150,16 @@ public class GameConfigController {
 
     private void updateGame() {
         Long id = gameConfigView.readLong("ID do jogo: ");
-        Game existing = gameService.findById(id);
+        CompletableFuture<Game> existing = gameService.findByIdAsync(id, FetchPlan.GAME_DETAILS);
+        CompletableFuture<MyLinkedList<ListableDTO>> genres = genreService.findAllListableAsync();
+        CompletableFuture<MyLinkedList<ListableDTO>> platforms = platformService.findAllListableAsync();
+        CompletableFuture<MyLinkedList<ListableDTO>> devs = developerService.findAllListableAsync();
 
         GameDTO dto = gameConfigView.promptGameUpdate(
-                existing,
-                genreService.findAll(),
-                platformService.findAll(),
-                developerService.findAll()
+                AsyncExecutor.await(existing),
+                AsyncExecutor.await(genres),
+                AsyncExecutor.await(platforms),
+                AsyncExecutor.await(devs)
         );
 
         Game updated = gameService.updateGame(
@@ -2,6 +2,7 @@ package controller.game;
 
 import model.game.Genre;
 import service.game.GenreService;
+import dao.OperationTimeoutException;
 import service.exception.ServiceException;
 import service.exception.ValidationException;
 import view.game.genreConfigView;
@@ -35,7 +36,7 @@ public class GenreConfigController {
                         ConsoleUtils.waitEnter();
                         break;
                     case 2:
-                        genreConfigView.renderEntityList(genreService.findAll());
+                        genreConfigView.renderEntityList(genreService.findAllListable());
                         ConsoleUtils.waitEnter();
                         break;
                     case 0:
@@ -52,6 +53,9 @@ public class GenreConfigController {
             } catch (ServiceException e) {
                 genreConfigView.renderServiceException(e);
                 ConsoleUtils.waitEnter();
+            } catch (OperationTimeoutException e) {
+                genreConfigView.renderTimeoutException(e);
+                ConsoleUtils.waitEnter();
             } catch (Exception e) {
                 genreConfigView.renderException(e);
                 ConsoleUtils.waitEnter();
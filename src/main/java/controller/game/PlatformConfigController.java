@@ -2,6 +2,7 @@ package controller.game;
 
 import model.game.Platform;
 import service.game.PlatformService;
+import dao.OperationTimeoutException;
 import service.exception.ServiceException;
 import service.exception.ValidationException;
 import view.game.PlatformConfigView;
@@ -36,7 +37,7 @@ public class PlatformConfigController {
                         break;
 
                     case 2:
-                        platformConfigView.renderEntityList(platformService.findAll());
+                        platformConfigView.renderEntityList(platformService.findAllListable());
                         ConsoleUtils.waitEnter();
                         break;
 
@@ -54,6 +55,9 @@ public class PlatformConfigController {
             } catch (ServiceException e) {
                 platformConfigView.renderServiceException(e);
                 ConsoleUtils.waitEnter();
+            } catch (OperationTimeoutException e) {
+                platformConfigView.renderTimeoutException(e);
+                ConsoleUtils.waitEnter();
             } catch (Exception e) {
                 platformConfigView.renderException(e);
                 ConsoleUtils.waitEnter();
@@ -17,6 +17,7 @@ public class MainConfigController {
     private final DeveloperConfigController developerConfigController = Injector.createDeveloperConfigController();
     private final UserConfigController userConfigController = Injector.createUserConfigController();
     private final SeederConfigController seederConfigController = Injector.createSeederConfigController();
+    private final StatementStatsController statementStatsController = Injector.createStatementStatsController();
 
     private final MainMenuView configView = new MainMenuView();
 
@@ -31,6 +32,7 @@ public class MainConfigController {
                     "4 - Gerenciar Desenvolvedores",
                     "5 - Gerenciar Usuários",
                     "6 - Semear Ambiente",
+                    "7 - Estatísticas SQL",
                     "0 - Voltar"
             );
 
@@ -54,6 +56,9 @@ public class MainConfigController {
                     case 6:
                         seederConfigController.seedersManagementMenu();
                         break;
+                    case 7:
+                        statementStatsController.statementStatsMenu();
+                        break;
                     case 0:
                         Navigation.pop();
                         return;
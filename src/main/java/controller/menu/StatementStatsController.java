@@ -0,0 +1,82 @@
+package controller.menu;
+
+import dao.GenericDAO;
+import dao.PersistenceBootstrap;
+import dao.game.GameDAO;
+import dao.pool.StatementStats;
+import view.StatementStatsView;
+import core.Navigation;
+import core.StartupTimer;
+import utils.ConsoleUtils;
+
+public class StatementStatsController {
+
+    private static final int TOP_STATEMENTS = 15;
+
+    private final StatementStatsView statementStatsView = new StatementStatsView();
+
+    public void statementStatsMenu() {
+        Navigation.push("SQL Statistics Menu");
+
+        while (true) {
+            int choice = statementStatsView.renderBanner(
+                    "1 - Comandos mais custosos (tempo total)",
+                    "2 - Zerar estatísticas",
+                    "3 - Tempos de inicialização",
+                    "4 - Retentativas de transação",
+                    "5 - Cache de buscas de jogos",
+                    "6 - Timeouts de operações",
+                    "0 - Voltar"
+            );
+
+            try {
+                StatementStats stats = GenericDAO.getStatementStats();
+                switch (choice) {
+                    case 1:
+                        if (stats == null) {
+                            statementStatsView.renderError("Estatísticas desativadas (dgm.sql.stats=false).");
+                        } else {
+                            statementStatsView.renderStatementStats(stats.snapshot(), TOP_STATEMENTS);
+                        }
+                        ConsoleUtils.waitEnter();
+                        break;
+                    case 2:
+                        if (stats != null) {
+                            stats.reset();
+                        }
+                        statementStatsView.renderMessage("Estatísticas zeradas.");
+                        ConsoleUtils.waitEnter();
+                        break;
+                    case 3:
+                        statementStatsView.renderStartupTimes(
+                                StartupTimer.getTimeToFirstPromptMillis(),
+                                PersistenceBootstrap.getBootstrapMillis());
+                        ConsoleUtils.waitEnter();
+                        break;
+                    case 4:
+                        statementStatsView.renderRetryMetrics(GenericDAO.getRetryMetrics());
+                        ConsoleUtils.waitEnter();
+                        break;
+                    case 5:
+                        statementStatsView.renderFinderCacheMetrics(
+                                GameDAO.getFinderCacheMetrics(), GameDAO.getFinderCacheSize());
+                        ConsoleUtils.waitEnter();
+                        break;
+                    case 6:
+                        statementStatsView.renderTimeoutMetrics(GenericDAO.getTimeoutMetrics());
+                        ConsoleUtils.waitEnter();
+                        break;
+                    case 0:
+                        Navigation.pop();
+                        return;
+                    default:
+                        statementStatsView.renderError("Opção inválida.");
+                        ConsoleUtils.waitEnter();
+                }
+            } catch (Exception e) {
+                statementStatsView.renderException(e);
+                ConsoleUtils.waitEnter();
+            }
+        }
+    }
+}
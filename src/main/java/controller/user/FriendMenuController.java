@@ -7,6 +7,7 @@ import model.user.User;
 import service.user.FriendshipService;
 import service.user.UserService;
 import service.session.SessionManager;
+import dao.OperationTimeoutException;
 import service.exception.ServiceException;
 import service.exception.ValidationException;
 import view.user.UserConfigView;
@@ -79,6 +80,9 @@ public class FriendMenuController {
             } catch (ServiceException e) {
                 userConfigView.renderServiceException(e);
                 ConsoleUtils.waitEnter();
+            } catch (OperationTimeoutException e) {
+                userConfigView.renderTimeoutException(e);
+                ConsoleUtils.waitEnter();
             } catch (Exception e) {
                 userConfigView.renderException(e);
                 ConsoleUtils.waitEnter();
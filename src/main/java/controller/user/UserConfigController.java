@@ -3,6 +3,7 @@ package controller.user;
 import model.user.User;
 import service.session.AuthService;
 import service.user.UserService;
+import dao.OperationTimeoutException;
 import service.exception.ServiceException;
 import service.exception.ValidationException;
 import view.user.UserConfigView;
@@ -12,6 +13,8 @@ import utils.ConsoleUtils;
 
 public class UserConfigController {
 
+    private static final int PAGE_SIZE = 20;
+
     private final UserService userService;
     private final AuthService authService;
 
@@ -52,7 +55,9 @@ public class UserConfigController {
                     //     ConsoleUtils.waitEnter();
                     //     break;
                     case 4:
-                        userConfigView.listAllUsers(userService.findAll());
+                        userConfigView.browsePages(
+                                afterId -> userService.findListablePage(afterId, PAGE_SIZE),
+                                userConfigView::listAllUsers);
                         ConsoleUtils.waitEnter();
                         break;
 
@@ -71,6 +76,9 @@ public class UserConfigController {
             } catch (ServiceException e) {
                 userConfigView.renderServiceException(e);
                 ConsoleUtils.waitEnter();
+            } catch (OperationTimeoutException e) {
+                userConfigView.renderTimeoutException(e);
+                ConsoleUtils.waitEnter();
             } catch (Exception e) {
                 userConfigView.renderException(e);
                 ConsoleUtils.waitEnter();
@@ -10,6 +10,8 @@ import service.user.UserService;
 import service.exception.ServiceException;
 import service.exception.ValidationException;
 import view.user.UserMenuView;
+import dao.FetchPlan;
+import dao.OperationTimeoutException;
 import dto.UserGameDTO;
 import core.Injector;
 import core.Navigation;
@@ -145,6 +147,9 @@ public class UserMenuController {
             } catch (ServiceException e) {
                 userMenuView.renderServiceException(e);
                 ConsoleUtils.waitEnter();
+            } catch (OperationTimeoutException e) {
+                userMenuView.renderTimeoutException(e);
+                ConsoleUtils.waitEnter();
             } catch (Exception e) {
                 userMenuView.renderException(e);
                 ConsoleUtils.waitEnter();
@@ -155,7 +160,7 @@ public class UserMenuController {
 
     // #region User Library Management
     private void showLibrary() {
-        User user = SessionManager.getCurrentUser();
+        User user = userService.findById(SessionManager.getCurrentUserId(), FetchPlan.LIBRARY);
         userMenuView.showLibrary(user.getUserGames());
     }
 
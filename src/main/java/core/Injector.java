@@ -6,6 +6,7 @@ import controller.game.GenreConfigController;
 import controller.game.PlatformConfigController;
 import controller.menu.MainConfigController;
 import controller.menu.SeederConfigController;
+import controller.menu.StatementStatsController;
 import controller.user.FriendMenuController;
 import controller.user.UserConfigController;
 import controller.user.UserMenuController;
@@ -38,13 +39,14 @@ public final class Injector {
     private static final DeveloperSeeder developerSeeder = new DeveloperSeeder(developerService);
 
     private static final GameSeeder gameSeeder = new GameSeeder(
-            gameService
+            genreService,
+            platformService,
+            developerService
     );
 
     private static final UserSeeder userSeeder = new UserSeeder(
             authService,
             userService,
-            userGameService,
             friendshipService,
             gameService
     );
@@ -106,4 +108,8 @@ public final class Injector {
                 userSeeder
         );
     }
+
+    public static StatementStatsController createStatementStatsController() {
+        return new StatementStatsController();
+    }
 }
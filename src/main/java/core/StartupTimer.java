@@ -0,0 +1,30 @@
+package core;
+
+/**
+ * Measures time-to-first-prompt: from {@link #start()} at the top of
+ * {@code main} until the first menu is on screen waiting for input.
+ */
+public final class StartupTimer {
+
+    private static volatile long startNanos;
+    private static volatile long firstPromptNanos;
+
+    private StartupTimer() {
+    }
+
+    public static void start() {
+        startNanos = System.nanoTime();
+    }
+
+    /** Records the first prompt; later calls are ignored. */
+    public static void markFirstPrompt() {
+        if (firstPromptNanos == 0 && startNanos != 0) {
+            firstPromptNanos = System.nanoTime();
+        }
+    }
+
+    /** Time-to-first-prompt, or -1 if it was not measured. */
+    public static long getTimeToFirstPromptMillis() {
+        return firstPromptNanos == 0 ? -1 : (firstPromptNanos - startNanos) / 1_000_000;
+    }
+}
@@ -0,0 +1,70 @@
+package core.bench;
+
+import dao.FetchPlan;
+import dao.GenericDAO;
+import dao.PersistenceProfile;
+import dao.pool.QueryGuard;
+import model.game.Game;
+import service.game.DeveloperService;
+import service.game.GameService;
+import service.game.GenreService;
+import service.game.PlatformService;
+import utils.MyLinkedList;
+
+/**
+ * Counts the SQL statements of catalog-heavy screens with an empty
+ * second-level cache (as if it did not exist) and with a warm one.
+ * <p>
+ * Usage: {@code java core.bench.CatalogCacheBenchmark [catalogSize]}. Runs on
+ * the in-memory H2 profile unless {@code -Ddgm.profile} says otherwise.
+ */
+public final class CatalogCacheBenchmark {
+
+    private static final GenreService GENRES = new GenreService();
+    private static final PlatformService PLATFORMS = new PlatformService();
+    private static final DeveloperService DEVELOPERS = new DeveloperService();
+    private static final GameService GAMES = new GameService();
+
+    private static int gameCounter;
+
+    private CatalogCacheBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        if (System.getProperty(PersistenceProfile.PROFILE) == null) {
+            System.setProperty(PersistenceProfile.PROFILE, "h2");
+        }
+        int catalogSize = args.length > 0 ? Integer.parseInt(args[0]) : 20;
+
+        for (int i = 1; i <= catalogSize; i++) {
+            GENRES.createOrFind("Gênero " + i);
+            PLATFORMS.createOrFind("Plataforma " + i);
+            DEVELOPERS.createOrFind("Desenvolvedor " + i);
+        }
+        Game game = createGame();
+
+        System.out.printf("%-40s %12s %12s%n", "Tela", "sem cache", "com cache");
+        run("Criar jogo (valida 3+3+3 IDs)", CatalogCacheBenchmark::createGame);
+        run("Editar jogo", () -> GAMES.updateGame(game.getId(), game.getName(), null,
+                MyLinkedList.of(4L, 5L, 6L), MyLinkedList.of(4L, 5L), MyLinkedList.of(4L)));
+        run("Busca por nome de " + catalogSize + " gêneros", () -> {
+            for (int i = 1; i <= catalogSize; i++) {
+                GENRES.findByName("Gênero " + i);
+            }
+        });
+        run("Página de jogos com detalhes", () -> GAMES.findPage(null, 20, FetchPlan.GAME_DETAILS));
+        System.exit(0);
+    }
+
+    private static Game createGame() {
+        return GAMES.createGame("Jogo " + (++gameCounter), null,
+                MyLinkedList.of(1L, 2L, 3L), MyLinkedList.of(1L, 2L, 3L), MyLinkedList.of(1L, 2L, 3L));
+    }
+
+    private static void run(String label, Runnable screen) {
+        GenericDAO.getSecondLevelCache().evictAll();
+        int cold = QueryGuard.measure(screen).getStatementCount();
+        int warm = QueryGuard.measure(screen).getStatementCount();
+        System.out.printf("%-40s %12d %12d%n", label, cold, warm);
+    }
+}
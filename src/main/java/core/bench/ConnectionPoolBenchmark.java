@@ -0,0 +1,125 @@
+package core.bench;
+
+import java.sql.Connection;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+
+import dao.pool.PooledConnectionProvider;
+
+/**
+ * Compares connection acquire latency of Hibernate's built-in pool
+ * ({@code hibernate.connection.pool_size}) against {@link PooledConnectionProvider}.
+ * <p>
+ * Usage: {@code java core.bench.ConnectionPoolBenchmark [threads] [iterationsPerThread]}.
+ * The JDBC target is taken from {@code -Ddgm.bench.url/user/password}.
+ */
+public final class ConnectionPoolBenchmark {
+
+    private static final String URL = System.getProperty("dgm.bench.url", "jdbc:mysql://localhost:3306/app?useSSL=false");
+    private static final String USER = System.getProperty("dgm.bench.user", "root");
+    private static final String PASSWORD = System.getProperty("dgm.bench.password", "");
+
+    private ConnectionPoolBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int threads = args.length > 0 ? Integer.parseInt(args[0]) : 32;
+        int iterations = args.length > 1 ? Integer.parseInt(args[1]) : 2_000;
+
+        Map<String, Object> builtIn = baseSettings();
+        builtIn.put("hibernate.connection.pool_size", "10");
+
+        Map<String, Object> pooled = baseSettings();
+        pooled.put("hibernate.connection.provider_class", PooledConnectionProvider.class.getName());
+        pooled.put(PooledConnectionProvider.MAX_SIZE, "10");
+
+        System.out.printf("Threads: %d | Iterações por thread: %d%n", threads, iterations);
+        run("Hibernate built-in (pool_size=10)", builtIn, threads, iterations);
+        run("PooledConnectionProvider (maxSize=10)", pooled, threads, iterations);
+    }
+
+    private static Map<String, Object> baseSettings() {
+        Map<String, Object> settings = new HashMap<>();
+        settings.put("hibernate.connection.url", URL);
+        settings.put("hibernate.connection.username", USER);
+        settings.put("hibernate.connection.password", PASSWORD);
+        return settings;
+    }
+
+    private static void run(String label, Map<String, Object> settings, int threads, int iterations) throws Exception {
+        StandardServiceRegistry registry = new StandardServiceRegistryBuilder().applySettings(settings).build();
+        try {
+            ConnectionProvider provider = registry.getService(ConnectionProvider.class);
+
+            // Aquecimento: abre as conexões iniciais fora da medição
+            measure(provider, threads, Math.max(1, iterations / 10), new AtomicInteger());
+            AtomicInteger failures = new AtomicInteger();
+            long[] samples = Arrays.stream(measure(provider, threads, iterations, failures))
+                    .filter(sample -> sample >= 0)
+                    .sorted()
+                    .toArray();
+
+            if (samples.length == 0) {
+                System.out.printf("%-40s todas as %d aquisições falharam%n", label, failures.get());
+                return;
+            }
+            double avg = Arrays.stream(samples).average().orElse(0) / 1_000.0;
+            System.out.printf("%-40s avg=%8.1fus p50=%8.1fus p99=%8.1fus max=%8.1fus falhas=%d%n",
+                    label, avg,
+                    percentile(samples, 0.50) / 1_000.0,
+                    percentile(samples, 0.99) / 1_000.0,
+                    samples[samples.length - 1] / 1_000.0,
+                    failures.get());
+        } finally {
+            StandardServiceRegistryBuilder.destroy(registry);
+        }
+    }
+
+    private static long[] measure(ConnectionProvider provider, int threads, int iterations, AtomicInteger failures)
+            throws InterruptedException {
+        long[] samples = new long[threads * iterations];
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch done = new CountDownLatch(threads);
+
+        for (int t = 0; t < threads; t++) {
+            final int offset = t * iterations;
+            executor.execute(() -> {
+                try {
+                    for (int i = 0; i < iterations; i++) {
+                        long start = System.nanoTime();
+                        try {
+                            Connection connection = provider.getConnection();
+                            samples[offset + i] = System.nanoTime() - start;
+                            provider.closeConnection(connection);
+                        } catch (Exception e) {
+                            // O pool embutido falha em vez de aguardar quando esgotado
+                            samples[offset + i] = -1;
+                            failures.incrementAndGet();
+                        }
+                    }
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        done.await();
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.MINUTES);
+        return samples;
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+}
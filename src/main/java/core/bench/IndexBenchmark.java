@@ -0,0 +1,300 @@
+package core.bench;
+
+import dao.BulkWriter;
+import dao.PersistenceProfile;
+import dao.game.GameDAO;
+import dao.user.FriendRequestDAO;
+import dao.user.UserDAO;
+import dao.user.UserGameDAO;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.function.IntConsumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import model.game.Game;
+import model.user.FriendRequest;
+import model.user.FriendRequestState;
+import model.user.User;
+import model.user.UserGame;
+import model.user.UserGameState;
+
+/**
+ * Loads a large dataset and measures each indexed DAO finder twice: with the
+ * indexes declared on the entities, then after dropping them. For each
+ * finder it prints the average latency and the database's plan for the
+ * equivalent SQL (on H2, the index chosen for each table). The indexes are
+ * put back at the end by running {@code db/migration/001_finder_indexes.sql},
+ * which also checks that the migration script runs.
+ * <p>
+ * Usage: {@code java core.bench.IndexBenchmark [users] [gamesPerUser] [iterations]}.
+ * Runs on the in-memory H2 profile unless {@code -Ddgm.profile} says otherwise.
+ */
+public final class IndexBenchmark {
+
+    private static final String MIGRATION = "db/migration/001_finder_indexes.sql";
+    private static final Pattern CREATE_INDEX = Pattern.compile("CREATE INDEX (\\w+) ON (\\w+)");
+    private static final Pattern H2_INDEX = Pattern.compile("/\\*\\s*(public\\.[^*]+?)\\s*\\*/",
+            Pattern.CASE_INSENSITIVE);
+    private static final LocalDate FIRST_BIRTH_DATE = LocalDate.of(1960, 1, 1);
+
+    private static final GameDAO GAMES = new GameDAO();
+    private static final UserDAO USERS = new UserDAO();
+    private static final UserGameDAO USER_GAMES = new UserGameDAO();
+    private static final FriendRequestDAO FRIEND_REQUESTS = new FriendRequestDAO();
+
+    private static final int FRIENDS_PER_USER = 4;
+
+    private IndexBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        if (System.getProperty(PersistenceProfile.PROFILE) == null) {
+            System.setProperty(PersistenceProfile.PROFILE, "h2");
+        }
+        // Mede o banco, não os caches nem os orçamentos de tempo
+        System.setProperty("dgm.gameCache.enabled", "false");
+        System.setProperty("dgm.timeout.readMs", "0");
+
+        int users = args.length > 0 ? Integer.parseInt(args[0]) : 20_000;
+        int gamesPerUser = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+        int iterations = args.length > 2 ? Integer.parseInt(args[2]) : 200;
+        int games = Math.max(gamesPerUser * 10, users / 4);
+
+        long start = System.nanoTime();
+        seed(users, games, gamesPerUser);
+        System.out.printf("Dados: %d usuários, %d jogos, %d itens de biblioteca, %d solicitações (%d ms)%n",
+                users, games, (long) users * gamesPerUser, (long) users * FRIENDS_PER_USER,
+                (System.nanoTime() - start) / 1_000_000);
+
+        Map<String, Finder> finders = finders(users, games);
+        Map<String, IndexDefinition> indexes = indexesInMigration();
+
+        // Aquecimento geral: a primeira fase não paga sozinha o JIT e o cache de planos
+        finders.values().forEach(finder -> averageMicros(iterations, finder.call));
+
+        Map<String, double[]> latencies = new LinkedHashMap<>();
+        Map<String, String[]> plans = new LinkedHashMap<>();
+        for (int phase = 0; phase < 2; phase++) {
+            if (phase == 1) {
+                indexes.forEach((name, index) -> execute(dropIndex(name, index.table)));
+            }
+            for (Map.Entry<String, Finder> finder : finders.entrySet()) {
+                latencies.computeIfAbsent(finder.getKey(), key -> new double[2])[phase] =
+                        averageMicros(iterations, finder.getValue().call);
+                plans.computeIfAbsent(finder.getKey(), key -> new String[2])[phase] = plan(finder.getValue().sql);
+            }
+        }
+        indexes.values().forEach(index -> execute(index.createStatement));
+
+        System.out.printf("%n%-45s %14s %14s %8s%n", "Busca", "com índices", "sem índices", "ganho");
+        latencies.forEach((label, micros) -> System.out.printf("%-45s %12.1fus %12.1fus %7.1fx%n",
+                label, micros[0], micros[1], micros[1] / micros[0]));
+
+        System.out.printf("%nPlanos%n");
+        plans.forEach((label, plan) -> {
+            System.out.println(label);
+            System.out.println("  com: " + plan[0]);
+            System.out.println("  sem: " + plan[1]);
+        });
+        System.exit(0);
+    }
+
+    // #region Seed
+    private static void seed(int users, int games, int gamesPerUser) {
+        long[] gameIds = BulkWriter.execute(writer -> {
+            long[] ids = new long[games];
+            for (int i = 0; i < games; i++) {
+                Game game = new Game();
+                game.setName("Jogo " + i);
+                game.setRating((i * 37 % 101) / 10.0);
+                ids[i] = writer.insert(game).getId();
+            }
+            return ids;
+        });
+
+        long[] userIds = BulkWriter.execute(writer -> {
+            long[] ids = new long[users];
+            for (int i = 0; i < users; i++) {
+                User user = new User("usuario" + i, "bench");
+                user.setBirthDate(FIRST_BIRTH_DATE.plusDays(i * 7L % 15_000));
+                ids[i] = writer.insert(user).getId();
+            }
+            return ids;
+        });
+
+        UserGameState[] states = UserGameState.values();
+        FriendRequestState[] statuses = FriendRequestState.values();
+        BulkWriter.perform(writer -> {
+            for (int i = 0; i < users; i++) {
+                User user = writer.reference(User.class, userIds[i]);
+                // Passo 97 e número de jogos sem fator comum: sem jogo repetido na biblioteca
+                for (int k = 0; k < gamesPerUser; k++) {
+                    UserGame entry = new UserGame(user,
+                            writer.reference(Game.class, gameIds[(i * 31 + k * 97) % games]));
+                    entry.setGameState(states[(i + k) % states.length]);
+                    entry.setEstimated((i + k) % 3 == 0);
+                    writer.insert(entry);
+                }
+                for (int k = 1; k <= FRIENDS_PER_USER; k++) {
+                    writer.insert(new FriendRequest(user,
+                            writer.reference(User.class, userIds[(i + k * 101) % users]),
+                            statuses[(i + k) % statuses.length]));
+                }
+            }
+        });
+    }
+    // #endregion Seed
+
+    // #region Finders
+    private static Map<String, Finder> finders(int users, int games) {
+        Map<String, Finder> finders = new LinkedHashMap<>();
+        finders.put("GameDAO.findByName", new Finder(
+                i -> GAMES.findByName("Jogo " + spread(i, games)),
+                "SELECT * FROM games WHERE name = 'Jogo 777'"));
+        finders.put("GameDAO.findByRatingGreaterThan(9.9)", new Finder(
+                i -> GAMES.findByRatingGreaterThan(9.9),
+                "SELECT * FROM games WHERE rating >= 9.9 ORDER BY rating DESC"));
+        finders.put("UserDAO.findByName", new Finder(
+                i -> USERS.findByName("usuario" + spread(i, users)),
+                "SELECT * FROM users WHERE name = 'usuario777'"));
+        finders.put("UserDAO.findByBirthDate", new Finder(
+                i -> USERS.findByBirthDate(FIRST_BIRTH_DATE.plusDays(spread(i, 15_000))),
+                "SELECT * FROM users WHERE birth_date = DATE '1990-01-01'"));
+        finders.put("UserDAO.findByAge", new Finder(
+                i -> USERS.findByAge(20 + i % 40),
+                "SELECT * FROM users WHERE birth_date BETWEEN DATE '1980-01-02' AND DATE '1981-01-01'"));
+        finders.put("UserGameDAO.findByGameState", new Finder(
+                i -> USER_GAMES.findByGameState(userId(i, users), UserGameState.FINISHED),
+                "SELECT * FROM user_game WHERE user_id = 777 AND game_state = 3"));
+        finders.put("UserGameDAO.findByEstimated", new Finder(
+                i -> USER_GAMES.findByEstimated(userId(i, users)),
+                "SELECT * FROM user_game WHERE user_id = 777 AND estimated = TRUE"));
+        finders.put("FriendRequestDAO.findPendingReceivedByUserId", new Finder(
+                i -> FRIEND_REQUESTS.findPendingReceivedByUserId(userId(i, users)),
+                "SELECT * FROM friend_requests WHERE to_user_id = 777 AND status = 0 ORDER BY createdAt DESC"));
+        finders.put("FriendRequestDAO.findSentPendingByUserId", new Finder(
+                i -> FRIEND_REQUESTS.findSentPendingByUserId(userId(i, users)),
+                "SELECT * FROM friend_requests WHERE from_user_id = 777 AND status = 0 ORDER BY createdAt DESC"));
+        return finders;
+    }
+
+    // Valores espalhados pela tabela, para não medir sempre as mesmas páginas
+    private static int spread(int i, int size) {
+        return (int) ((i * 7_919L) % size);
+    }
+
+    private static long userId(int i, int users) {
+        return spread(i, users) + 1L;
+    }
+    // #endregion Finders
+
+    // #region Measurement
+    private static double averageMicros(int iterations, IntConsumer call) {
+        // Aquecimento: JIT e caches de plano de consulta
+        for (int i = 0; i < Math.max(1, iterations / 10); i++) {
+            call.accept(iterations + i);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            call.accept(i);
+        }
+        return (System.nanoTime() - start) / 1_000.0 / iterations;
+    }
+
+    private static String plan(String sql) {
+        List<?> rows = USERS.executeReadOnly(em -> em.createNativeQuery("EXPLAIN " + sql).getResultList());
+        StringJoiner plan = new StringJoiner("; ");
+        for (Object row : rows) {
+            if (row instanceof Object[]) {
+                // MySQL: table, type, key, rows
+                Object[] columns = (Object[]) row;
+                plan.add("table=" + columns[2] + " type=" + columns[4] + " key=" + columns[6] + " rows=" + columns[9]);
+            } else {
+                // H2: o plano é o SQL reescrito, com o índice usado em comentário
+                Matcher index = H2_INDEX.matcher(String.valueOf(row));
+                while (index.find()) {
+                    plan.add(index.group(1).replaceAll("\\s+", " "));
+                }
+            }
+        }
+        return plan.toString();
+    }
+    // #endregion Measurement
+
+    // #region Index DDL
+    private static Map<String, IndexDefinition> indexesInMigration() {
+        Map<String, IndexDefinition> indexes = new LinkedHashMap<>();
+        for (String statement : migrationStatements()) {
+            Matcher create = CREATE_INDEX.matcher(statement);
+            if (create.find()) {
+                indexes.put(create.group(1), new IndexDefinition(create.group(2), statement));
+            }
+        }
+        return indexes;
+    }
+
+    private static List<String> migrationStatements() {
+        try (InputStream in = IndexBenchmark.class.getClassLoader().getResourceAsStream(MIGRATION)) {
+            if (in == null) {
+                throw new IllegalStateException("Script não encontrado no classpath: " + MIGRATION);
+            }
+            List<String> statements = new ArrayList<>();
+            StringBuilder current = new StringBuilder();
+            for (String line : new String(in.readAllBytes(), StandardCharsets.UTF_8).split("\n")) {
+                String trimmed = line.trim();
+                if (trimmed.isEmpty() || trimmed.startsWith("--")) {
+                    continue;
+                }
+                current.append(trimmed).append(' ');
+                if (trimmed.endsWith(";")) {
+                    statements.add(current.toString().replace(";", "").trim());
+                    current.setLength(0);
+                }
+            }
+            return statements;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String dropIndex(String name, String table) {
+        return PersistenceProfile.current() == PersistenceProfile.MYSQL
+                ? "DROP INDEX " + name + " ON " + table
+                : "DROP INDEX " + name;
+    }
+
+    private static void execute(String ddl) {
+        USERS.performInTransaction(em -> em.createNativeQuery(ddl).executeUpdate());
+    }
+    // #endregion Index DDL
+
+    private static final class Finder {
+
+        final IntConsumer call;
+        final String sql;
+
+        Finder(IntConsumer call, String sql) {
+            this.call = call;
+            this.sql = sql;
+        }
+    }
+
+    private static final class IndexDefinition {
+
+        final String table;
+        final String createStatement;
+
+        IndexDefinition(String table, String createStatement) {
+            this.table = table;
+            this.createStatement = createStatement;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package core.bench;
+
+import dao.FetchPlan;
+import dao.PersistenceProfile;
+import dao.game.GameDAO;
+import dao.pool.QueryGuard;
+import dao.user.UserDAO;
+import java.time.LocalDate;
+import java.util.function.IntConsumer;
+import model.game.Game;
+import model.user.User;
+import org.hibernate.engine.spi.SelfDirtinessTracker;
+import service.game.DeveloperService;
+import service.game.GameService;
+import service.game.GenreService;
+import service.game.PlatformService;
+import service.user.UserService;
+import utils.MyLinkedList;
+
+/**
+ * Measures {@code GenericDAO.update} (a merge of a detached aggregate) for a
+ * game with its three association sets and a user with a loaded library,
+ * changing a single column each time. Run once on the default build (with
+ * bytecode enhancement) and once after {@code mvn -DskipEnhance clean compile}
+ * to compare.
+ * <p>
+ * Usage: {@code java core.bench.MergeBenchmark [iterations] [libraryGames]}.
+ * Runs on the in-memory H2 profile unless {@code -Ddgm.profile} says otherwise.
+ */
+public final class MergeBenchmark {
+
+    private static final GameDAO GAMES = new GameDAO();
+    private static final UserDAO USERS = new UserDAO();
+
+    private MergeBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        if (System.getProperty(PersistenceProfile.PROFILE) == null) {
+            System.setProperty(PersistenceProfile.PROFILE, "h2");
+        }
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 2_000;
+        int libraryGames = args.length > 1 ? Integer.parseInt(args[1]) : 50;
+
+        Game game = seedGame(libraryGames);
+        User user = seedUser(libraryGames);
+
+        System.out.printf("Enhancement: %s | Iterações: %d | Jogos na biblioteca: %d%n",
+                SelfDirtinessTracker.class.isAssignableFrom(Game.class) ? "ativo" : "inativo",
+                iterations, libraryGames);
+        run("Game + gêneros/plataformas/devs", iterations, i -> {
+            game.setReleaseDate(LocalDate.of(2000, 1, 1).plusDays(i));
+            GAMES.update(game);
+        });
+        run("User + biblioteca", iterations, i -> {
+            user.setBirthDate(LocalDate.of(1990, 1, 1).plusDays(i));
+            USERS.update(user);
+        });
+        System.exit(0);
+    }
+
+    // #region Seed
+    private static Game seedGame(int catalogSize) {
+        GenreService genres = new GenreService();
+        PlatformService platforms = new PlatformService();
+        DeveloperService developers = new DeveloperService();
+        GameService games = new GameService();
+
+        MyLinkedList<Long> genreIds = new MyLinkedList<>();
+        MyLinkedList<Long> platformIds = new MyLinkedList<>();
+        MyLinkedList<Long> developerIds = new MyLinkedList<>();
+        for (int i = 1; i <= 3; i++) {
+            genreIds.add(genres.createOrFind("Gênero " + i).getId());
+            platformIds.add(platforms.createOrFind("Plataforma " + i).getId());
+            developerIds.add(developers.createOrFind("Desenvolvedor " + i).getId());
+        }
+        for (int i = 1; i <= catalogSize; i++) {
+            games.createGame("Jogo " + i, null, genreIds, platformIds, developerIds);
+        }
+        return games.findById(games.findByName("Jogo 1").getId(), FetchPlan.GAME_DETAILS);
+    }
+
+    private static User seedUser(int libraryGames) {
+        UserService users = new UserService();
+        User user = new User("bench", "bench");
+        USERS.save(user);
+        for (int i = 1; i <= libraryGames; i++) {
+            users.addGameToLibrary(user.getId(), "Jogo " + i);
+        }
+        return users.findById(user.getId(), FetchPlan.LIBRARY);
+    }
+    // #endregion Seed
+
+    private static void run(String label, int iterations, IntConsumer update) {
+        // Aquecimento: JIT e caches de plano de consulta
+        for (int i = 0; i < Math.max(1, iterations / 10); i++) {
+            update.accept(i);
+        }
+
+        int[] statements = new int[1];
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            int offset = iterations + i;
+            statements[0] += QueryGuard.measure(() -> update.accept(offset)).getStatementCount();
+        }
+        double avgMicros = (System.nanoTime() - start) / 1_000.0 / iterations;
+        System.out.printf("%-35s média=%8.1fus comandos/merge=%5.1f%n",
+                label, avgMicros, (double) statements[0] / iterations);
+    }
+}
@@ -1,16 +1,33 @@
 package core.seed;
 
-import service.game.GameService;
+import dao.BulkWriter;
+import dto.ListableDTO;
+import model.game.Developer;
+import model.game.Game;
+import model.game.GameDeveloper;
+import model.game.GameGenre;
+import model.game.GamePlatform;
+import model.game.Genre;
+import model.game.Platform;
+import service.game.DeveloperService;
+import service.game.GenreService;
+import service.game.PlatformService;
 import service.exception.ServiceException;
 import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Set;
 import utils.MyLinkedList;
 
 public class GameSeeder {
 
-    private final GameService gameService;
+    private final GenreService genreService;
+    private final PlatformService platformService;
+    private final DeveloperService developerService;
 
-    public GameSeeder(GameService gameService) {
-        this.gameService = gameService;
+    public GameSeeder(GenreService genreService, PlatformService platformService, DeveloperService developerService) {
+        this.genreService = genreService;
+        this.platformService = platformService;
+        this.developerService = developerService;
     }
 
     private static class GameSeed {
@@ -215,23 +232,71 @@ public class GameSeeder {
                 MyLinkedList.of(11L, 1L),
                 MyLinkedList.of(1L, 2L, 3L)));
 
+        insertAll(seeds);
+    }
+
+    // Escrita em lote pelo BulkWriter (Session comum, esvaziada a cada lote JDBC e confirmada por bloco);
+    // os IDs do catálogo são validados aqui, uma única vez
+    private void insertAll(MyLinkedList<GameSeed> seeds) {
+        Set<Long> genreIds = idsOf(genreService.findAllListable());
+        Set<Long> platformIds = idsOf(platformService.findAllListable());
+        Set<Long> developerIds = idsOf(developerService.findAllListable());
         for (GameSeed seed : seeds) {
-            try {
-                System.out.println("Criando game: " + seed.name);
+            if (!containsAll(genreIds, seed.genres) || !containsAll(platformIds, seed.platforms)
+                    || !containsAll(developerIds, seed.developers)) {
+                throw new ServiceException("Erro ao criar game " + seed.name
+                        + ": gêneros, plataformas ou desenvolvedores inexistentes. Semeie o catálogo antes.");
+            }
+        }
+
+        long rows = BulkWriter.execute(writer -> {
+            // Jogos primeiro: cada INSERT com IDENTITY descarrega o lote pendente,
+            // então os vínculos (chave conhecida) só saem em lote depois de todos os jogos
+            Long[] gameIds = new Long[seeds.size()];
+            int i = 0;
+            for (GameSeed seed : seeds) {
+                Game game = new Game();
+                game.setName(seed.name);
+                game.setReleaseDate(seed.releaseDate);
+                gameIds[i++] = writer.insert(game).getId();
+            }
 
-                gameService.createGame(
-                        seed.name,
-                        seed.releaseDate,
-                        seed.genres,
-                        seed.platforms,
-                        seed.developers
-                );
+            // Referência nova a cada vínculo: um flush do lote no meio desanexa a anterior
+            i = 0;
+            for (GameSeed seed : seeds) {
+                Long gameId = gameIds[i++];
+                for (Long id : seed.genres) {
+                    writer.insert(new GameGenre(writer.reference(Game.class, gameId),
+                            writer.reference(Genre.class, id)));
+                }
+                for (Long id : seed.platforms) {
+                    writer.insert(new GamePlatform(writer.reference(Game.class, gameId),
+                            writer.reference(Platform.class, id)));
+                }
+                for (Long id : seed.developers) {
+                    writer.insert(new GameDeveloper(writer.reference(Game.class, gameId),
+                            writer.reference(Developer.class, id)));
+                }
+            }
+            return writer.getInsertedRows();
+        });
+        System.out.println(seeds.size() + " games criados (" + rows + " linhas).");
+    }
 
-                System.out.println("Criado com sucesso!");
+    private static Set<Long> idsOf(MyLinkedList<ListableDTO> items) {
+        Set<Long> ids = new HashSet<>();
+        for (ListableDTO item : items) {
+            ids.add(item.getId());
+        }
+        return ids;
+    }
 
-            } catch (ServiceException e) {
-                throw new ServiceException("Erro ao criar game " + seed.name + ": " + e.getMessage());
+    private static boolean containsAll(Set<Long> ids, MyLinkedList<Long> wanted) {
+        for (Long id : wanted) {
+            if (!ids.contains(id)) {
+                return false;
             }
         }
+        return true;
     }
 }
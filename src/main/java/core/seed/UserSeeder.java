@@ -2,20 +2,24 @@ package core.seed;
 
 import com.github.javafaker.Faker;
 
+import dao.BulkWriter;
+
+import dto.ListableDTO;
 import model.game.Game;
 import model.user.User;
 import model.user.UserGame;
 import model.user.UserGameState;
 import service.session.AuthService;
 import service.user.FriendshipService;
-import service.user.UserGameService;
 import service.user.UserService;
 import utils.MyLinkedList;
 
 import java.time.LocalDate;
 import java.time.ZoneId;
+import java.util.HashSet;
 import java.util.Locale;
 import java.util.Random;
+import java.util.Set;
 
 import service.game.GameService;
 import view.SeederConfigView;
@@ -24,7 +28,6 @@ public class UserSeeder {
 
     private final AuthService authService;
     private final UserService userService;
-    private final UserGameService userGameService;
     private final FriendshipService friendshipService;
     private final GameService gameService;
 
@@ -37,10 +40,9 @@ public class UserSeeder {
     private static final int MAX_FRIENDS_USER = 3;
 
     public UserSeeder(AuthService authService, UserService userService,
-            UserGameService userGameService, FriendshipService friendshipService, GameService gameService) {
+            FriendshipService friendshipService, GameService gameService) {
         this.authService = authService;
         this.userService = userService;
-        this.userGameService = userGameService;
         this.friendshipService = friendshipService;
         this.gameService = gameService;
 
@@ -66,71 +68,67 @@ public class UserSeeder {
         }
     }
 
+    // Usuários e bibliotecas vão pelo BulkWriter (Session comum, esvaziada a cada lote JDBC e confirmada
+    // por bloco), sem passar pelos services
     private MyLinkedList<User> seedUsers(int quantity) {
-        MyLinkedList<User> users = new MyLinkedList<>();
+        Set<String> takenNames = new HashSet<>();
+        for (ListableDTO existing : userService.findAllListable()) {
+            takenNames.add(existing.getName().toLowerCase(Locale.ROOT));
+        }
+        String password = authService.hashPassword("123456"); // Senha padrão
 
-        for (int i = 0; i < quantity; i++) {
-            try {
+        MyLinkedList<User> users = BulkWriter.execute(writer -> {
+            MyLinkedList<User> created = new MyLinkedList<>();
+            for (int i = 0; i < quantity; i++) {
                 String username = faker.name().username().replace(".", "") + random.nextInt(1000);
-                String password = "123456"; // Senha padrão
-
-                User user = authService.register(username, password);
+                if (!takenNames.add(username.toLowerCase(Locale.ROOT))) {
+                    seederConfigView.renderError("Ignorando usuário duplicado: " + username);
+                    continue;
+                }
 
                 LocalDate birthDate = faker.date().birthday(18, 50)
                         .toInstant().atZone(ZoneId.systemDefault()).toLocalDate();
-
-                userService.updateUserProfile(user.getId(), user.getName(), birthDate);
-
-                users.add(user);
-                seederConfigView.renderMessage("Usuário criado: " + username);
-
-            } catch (Exception e) {
-                seederConfigView.renderError("Ignorando erro ao criar usuário (provável duplicata): " + e.getMessage());
+                created.add(writer.insert(new User(username, password, birthDate)));
             }
-        }
+            return created;
+        });
+        seederConfigView.renderMessage("Usuários criados: " + users.size());
         return users;
     }
 
     private void seedLibraries(MyLinkedList<User> users) {
 
-        MyLinkedList<Game> allGames = gameService.findAll();
+        MyLinkedList<ListableDTO> allGames = gameService.findAllListable();
 
         if (allGames.isEmpty()) {
             seederConfigView.renderMessage("Nenhum jogo encontrado para adicionar às bibliotecas.");
             return;
         }
 
-        for (User user : users) {
-            int qtGames = random.nextInt(MAX_GAMES_USER + 1);
+        long entries = BulkWriter.execute(writer -> {
+            for (User user : users) {
+                int qtGames = Math.min(random.nextInt(MAX_GAMES_USER + 1), allGames.size());
 
-            for (int i = 0; i < qtGames; i++) {
-                try {
-                    Game randomGame = allGames.get(random.nextInt(allGames.size()));
-
-                    userService.addGameToLibrary(user.getId(), randomGame.getName());
-
-                    UserGame ug = userGameService.findByUserAndGame(user.getId(), randomGame.getId());
-
-                    if (ug != null) {
-                        UserGameState randomState = UserGameState.values()[random.nextInt(UserGameState.values().length)];
-                        double randomHours = 1.0 + (100.0 - 1.0) * random.nextDouble(); // 1 a 100 horas
-                        boolean isFavorite = random.nextBoolean();
+                Set<Long> chosen = new HashSet<>();
+                while (chosen.size() < qtGames) {
+                    chosen.add(allGames.get(random.nextInt(allGames.size())).getId());
+                }
 
-                        userGameService.updateAllAttributes(
-                                user.getId(),
-                                randomGame.getId(),
-                                isFavorite,
-                                randomState,
-                                Math.round(randomHours * 10.0) / 10.0,
-                                java.time.LocalDateTime.now().minusDays(random.nextInt(30)) // Jogado nos últimos 30 dias
-                        );
-                    }
+                for (Long gameId : chosen) {
+                    UserGame userGame = new UserGame(user, writer.reference(Game.class, gameId));
+                    UserGameState randomState = UserGameState.values()[random.nextInt(UserGameState.values().length)];
+                    double randomHours = 1.0 + (100.0 - 1.0) * random.nextDouble(); // 1 a 100 horas
 
-                } catch (Exception e) {
-                    seederConfigView.renderError("Ignorando erro ao adicionar jogo ao usuário (provável duplicata): " + e.getMessage());
+                    userGame.setEstimated(random.nextBoolean());
+                    userGame.setGameState(randomState);
+                    userGame.setTotaltimePlayed(Math.round(randomHours * 10.0) / 10.0);
+                    userGame.setLastTimePlayed(java.time.LocalDateTime.now().minusDays(random.nextInt(30))); // Jogado nos últimos 30 dias
+                    writer.insert(userGame);
                 }
             }
-        }
+            return writer.getInsertedRows();
+        });
+        seederConfigView.renderMessage("Jogos adicionados às bibliotecas: " + entries);
     }
 
     private void seedFriendships(MyLinkedList<User> users) {
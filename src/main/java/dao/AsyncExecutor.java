@@ -0,0 +1,96 @@
+package dao;
+
+import dao.pool.QueryGuard;
+import dao.pool.ReadRouting;
+import java.lang.reflect.Method;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Executor behind the asynchronous DAO variants. Uses virtual threads when
+ * the JVM provides them (Java 21+) and a pool of daemon threads otherwise;
+ * in both cases at most {@link GenericDAO#getMaxPoolSize()} calls run at
+ * once, so fan-out never queues more work than the connection pool can
+ * serve.
+ * <p>
+ * Async calls run on other threads and therefore never join the caller's
+ * {@link UnitOfWork}: each one gets its own EntityManager and connection.
+ * The caller's read-your-writes window ({@link ReadRouting}) does carry over,
+ * so reads fanned out right after a write still see it, and so does an open
+ * {@link QueryGuard}, which counts the statements of the async calls.
+ */
+public final class AsyncExecutor {
+
+    private static final int LIMIT = GenericDAO.getMaxPoolSize();
+    private static final Semaphore PERMITS = new Semaphore(LIMIT, true);
+    private static final ExecutorService EXECUTOR = createExecutor();
+
+    private AsyncExecutor() {
+    }
+
+    private static ExecutorService createExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            // JVM sem virtual threads: pool comum limitado ao tamanho do pool de conexões
+            AtomicInteger counter = new AtomicInteger();
+            return Executors.newFixedThreadPool(LIMIT, task -> {
+                Thread thread = new Thread(task, "dgm-async-" + counter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    // #region Submission
+    public static <R> CompletableFuture<R> supply(Supplier<R> call) {
+        Long callerLastWrite = ReadRouting.lastWrite();
+        QueryGuard callerGuard = QueryGuard.current();
+        return CompletableFuture.supplyAsync(() -> {
+            PERMITS.acquireUninterruptibly();
+            Long ownLastWrite = ReadRouting.lastWrite();
+            ReadRouting.restoreLastWrite(callerLastWrite);
+            QueryGuard ownGuard = QueryGuard.attach(callerGuard);
+            try {
+                return call.get();
+            } finally {
+                QueryGuard.attach(ownGuard);
+                ReadRouting.restoreLastWrite(ownLastWrite);
+                PERMITS.release();
+            }
+        }, EXECUTOR);
+    }
+
+    public static CompletableFuture<Void> run(Runnable call) {
+        return supply(() -> {
+            call.run();
+            return null;
+        });
+    }
+
+    /**
+     * Waits for {@code future} and rethrows the original exception of the
+     * call instead of a {@link CompletionException}.
+     */
+    public static <R> R await(CompletableFuture<R> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+    // #endregion Submission
+}
@@ -0,0 +1,132 @@
+package dao;
+
+import dao.pool.ReadRouting;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import org.hibernate.CacheMode;
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.Transaction;
+
+/**
+ * Insert-only channel for seeders and imports. Rows go through one session
+ * that never grows: it is flushed and cleared every
+ * {@code hibernate.jdbc.batch_size} inserts, so there are no snapshots to
+ * dirty-check and nothing accumulates in the persistence context; the
+ * second-level cache is not populated; and transactions are committed every
+ * {@code dgm.bulk.chunkSize} rows, so memory and lock time stay flat however
+ * many rows are written. Associations only need the referenced entity's ID
+ * (see {@link #reference}), so nothing is loaded to link rows.
+ * <p>
+ * A bulk write is therefore not atomic: if it fails, the chunks committed
+ * before the failure stay, and it is not retried.
+ * <p>
+ * Entities inserted earlier in the same write may be detached by then; use
+ * them only as association targets, and through a fresh {@link #reference}
+ * per row when the association is part of the key (e.g. {@code GameGenre}).
+ */
+public final class BulkWriter {
+
+    private final Session session;
+    private final int batchSize;
+    private final int chunkSize;
+    private Transaction transaction;
+    private int pendingInBatch;
+    private int pendingInChunk;
+    private long insertedRows;
+
+    private BulkWriter(Session session, int batchSize, int chunkSize) {
+        this.session = session;
+        this.batchSize = batchSize;
+        this.chunkSize = chunkSize;
+    }
+
+    // #region Scopes
+    /**
+     * Runs {@code work} with a fresh writer and commits what is still pending
+     * when it returns; rolls back the current chunk if it throws.
+     */
+    public static <R> R execute(Function<BulkWriter, R> work) {
+        SessionFactory sessionFactory = PersistenceBootstrap.factory().unwrap(SessionFactory.class);
+        BulkWriter writer = new BulkWriter(sessionFactory.openSession(),
+                Integer.parseInt(GenericDAO.getSetting("hibernate.jdbc.batch_size", "50")),
+                Integer.parseInt(GenericDAO.getSetting("dgm.bulk.chunkSize", "1000")));
+        try {
+            writer.session.setHibernateFlushMode(FlushMode.MANUAL);
+            writer.session.setCacheMode(CacheMode.IGNORE);
+            writer.session.setJdbcBatchSize(writer.batchSize);
+            writer.begin();
+            R result = work.apply(writer);
+            writer.commit();
+            return result;
+        } catch (Exception e) {
+            if (writer.transaction != null && writer.transaction.isActive()) {
+                writer.transaction.rollback();
+            }
+            throw new RuntimeException("Erro ao executar escrita em lote", e);
+        } finally {
+            writer.session.close();
+        }
+    }
+
+    public static void perform(Consumer<BulkWriter> work) {
+        execute(writer -> {
+            work.accept(writer);
+            return null;
+        });
+    }
+    // #endregion Scopes
+
+    // #region Writing
+    /** Inserts {@code entity}; a generated ID is set on it before this returns. */
+    public <T> T insert(T entity) {
+        session.persist(entity);
+        insertedRows++;
+        if (++pendingInChunk >= chunkSize) {
+            commit();
+            begin();
+        } else if (++pendingInBatch >= batchSize) {
+            flushAndClear();
+        }
+        return entity;
+    }
+
+    public void insertAll(Iterable<?> entities) {
+        for (Object entity : entities) {
+            insert(entity);
+        }
+    }
+
+    /**
+     * An unloaded reference to the {@code type} row with {@code id}, enough to
+     * be the target of an association being inserted. No query is run.
+     */
+    public <T> T reference(Class<T> type, Object id) {
+        return session.getReference(type, id);
+    }
+
+    public long getInsertedRows() {
+        return insertedRows;
+    }
+    // #endregion Writing
+
+    // #region Chunks
+    private void begin() {
+        transaction = session.beginTransaction();
+    }
+
+    private void flushAndClear() {
+        session.flush();
+        session.clear();
+        pendingInBatch = 0;
+    }
+
+    private void commit() {
+        flushAndClear();
+        transaction.commit();
+        ReadRouting.markWrite();
+        pendingInChunk = 0;
+    }
+    // #endregion Chunks
+}
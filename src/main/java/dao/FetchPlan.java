@@ -0,0 +1,41 @@
+package dao;
+
+import model.game.Game;
+import model.user.User;
+
+/**
+ * Named fetch plans: what a use case needs loaded beyond an entity's own
+ * columns. Every association is LAZY; a plan lists the JPA entity graphs
+ * (declared on the entity) to load for one screen.
+ * <p>
+ * Each graph is loaded by its own query over the IDs already read, so
+ * several collections never multiply into one cartesian result set and
+ * paged queries keep their LIMIT in SQL.
+ */
+public enum FetchPlan {
+
+    /** Only the entity's own columns; associations stay unloaded. */
+    NONE(null),
+
+    /** Game with its genres, platforms and developers (listings and edit form). */
+    GAME_DETAILS(Game.class, "Game.genres", "Game.platforms", "Game.developers"),
+
+    /** User with the library entries and their games. */
+    LIBRARY(User.class, "User.library");
+
+    private final Class<?> rootType;
+    private final String[] graphNames;
+
+    FetchPlan(Class<?> rootType, String... graphNames) {
+        this.rootType = rootType;
+        this.graphNames = graphNames;
+    }
+
+    public String[] getGraphNames() {
+        return graphNames.clone();
+    }
+
+    public boolean appliesTo(Class<?> entityType) {
+        return rootType == null || rootType.equals(entityType);
+    }
+}
@@ -1,34 +1,174 @@
 package dao;
 
+import dao.pool.PoolMetrics;
+import dto.ListableDTO;
+import model.common.Listable;
+import dao.pool.PooledConnectionProvider;
+import dao.pool.ReadRouting;
+import dao.pool.StatementStats;
 import utils.MyLinkedList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import javax.persistence.Cache;
 import javax.persistence.EntityManager;
 import javax.persistence.EntityManagerFactory;
 import javax.persistence.NoResultException;
-import javax.persistence.Persistence;
 import javax.persistence.TypedQuery;
 import javax.persistence.EntityTransaction;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
+import org.hibernate.FlushMode;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.hibernate.cache.spi.access.NaturalIdDataAccess;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.persister.entity.EntityPersister;
 
 public abstract class GenericDAO<T> implements IGenericDAO<T> {
 
-    private static final EntityManagerFactory FACTORY = Persistence.createEntityManagerFactory("desktop-game-manager");
+    // Lidos na primeira utilização, quando a fábrica já existe
+    private static final class Settings {
+        static final int BATCH_SIZE = intProperty("hibernate.jdbc.batch_size", "50");
+        static final int STREAM_FETCH_SIZE = intProperty("dgm.stream.fetchSize", "500");
+
+        private static int intProperty(String key, String defaultValue) {
+            return Integer.parseInt(String.valueOf(factory().getProperties().getOrDefault(key, defaultValue)));
+        }
+    }
 
     private final Class<T> persistentClass;
+    private volatile String entityName;
+    private volatile Boolean nameIsNaturalId;
 
-    // Constructor
+    // Constructor: não toca na fábrica, que pode ainda estar inicializando
     public GenericDAO(Class<T> persistentClass) {
         this.persistentClass = persistentClass;
     }
 
+    private static EntityManagerFactory factory() {
+        return PersistenceBootstrap.factory();
+    }
+
+    /**
+     * A {@code dgm.*} setting: the system property if set, else the
+     * persistence unit property, else {@code defaultValue}.
+     */
+    public static String getSetting(String key, String defaultValue) {
+        Object configured = factory().getProperties().getOrDefault(key, defaultValue);
+        return System.getProperty(key, String.valueOf(configured)).trim();
+    }
+
+    private String entityName() {
+        String name = entityName;
+        if (name == null) {
+            name = factory().getMetamodel().entity(persistentClass).getName();
+            entityName = name;
+        }
+        return name;
+    }
+
+    // Natural id "name": buscas por nome passam pelo cache de natural id
+    private boolean nameIsNaturalId() {
+        Boolean naturalId = nameIsNaturalId;
+        if (naturalId == null) {
+            EntityPersister persister = factory().unwrap(SessionFactoryImplementor.class)
+                    .getMetamodel().entityPersister(persistentClass);
+            int[] properties = persister.getNaturalIdentifierProperties();
+            naturalId = properties != null && properties.length == 1
+                    && persister.getPropertyNames()[properties[0]].equals("name");
+            nameIsNaturalId = naturalId;
+        }
+        return naturalId;
+    }
+
+    // #region Connection Pool
+    public static PoolMetrics getPoolMetrics() {
+        return pooledConnectionProvider().getMetrics();
+    }
+
+    public static StatementStats getStatementStats() {
+        return pooledConnectionProvider().getStatementStats();
+    }
+
+    /** Second-level cache of the reference entities (see {@code ehcache.xml}). */
+    public static Cache getSecondLevelCache() {
+        return factory().getCache();
+    }
+
+    /** Retries of transactions that failed for a transient reason. */
+    public static RetryMetrics getRetryMetrics() {
+        return RetryPolicy.get().getMetrics();
+    }
+
+    /** Operations stopped for running past their time budget. */
+    public static TimeoutMetrics getTimeoutMetrics() {
+        return QueryTimeouts.get().getMetrics();
+    }
+
+    public static int getMaxPoolSize() {
+        return pooledConnectionProvider().getMaxPoolSize();
+    }
+
+    private static PooledConnectionProvider pooledConnectionProvider() {
+        ConnectionProvider provider = factory().unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(ConnectionProvider.class);
+        return provider.unwrap(PooledConnectionProvider.class);
+    }
+    // #endregion Connection Pool
+
     // #region Transaction & Execution Control
+    static EntityManager createEntityManager() {
+        return factory().createEntityManager();
+    }
+
     public <R> R executeInTransaction(Function<EntityManager, R> action) {
-        EntityManager em = FACTORY.createEntityManager();
+        return executeInTransaction(QueryTimeouts.WRITE, action);
+    }
+
+    /**
+     * Runs {@code action} in a transaction within the time budget of
+     * {@code operation} (see {@link QueryTimeouts}).
+     */
+    public <R> R executeInTransaction(String operation, Function<EntityManager, R> action) {
+        return executeInTransaction(operation, true, action);
+    }
+
+    /**
+     * Outside a {@link UnitOfWork}, {@code retryable} says whether the
+     * transaction may be re-run on a transient failure (see
+     * {@link RetryPolicy}); it must be {@code false} when {@code action}
+     * persists entities the caller owns.
+     */
+    private <R> R executeInTransaction(String operation, boolean retryable, Function<EntityManager, R> action) {
+        return QueryTimeouts.get().within(entityName(), operation, QueryTimeouts.WRITE, () -> {
+            UnitOfWork unit = UnitOfWork.current();
+            if (unit != null) {
+                return unit.executeInTransaction(em -> QueryTimeouts.apply(em, action));
+            }
+            Supplier<R> attempt = () -> runInTransaction(em -> QueryTimeouts.apply(em, action));
+            return retryable ? RetryPolicy.get().execute(attempt) : attempt.get();
+        });
+    }
+
+    private static <R> R runInTransaction(Function<EntityManager, R> action) {
+        EntityManager em = factory().createEntityManager();
         EntityTransaction tx = em.getTransaction();
         try {
             tx.begin();
             R result = action.apply(em);
-            tx.commit();
+            RetryPolicy.commit(tx);
+            ReadRouting.markWrite();
             return result;
         } catch (Exception e) {
             if (tx.isActive()) {
@@ -48,13 +188,70 @@ public abstract class GenericDAO<T> implements IGenericDAO<T> {
     }
 
     public <R> R executeReadOnly(Function<EntityManager, R> action) {
-        EntityManager em = FACTORY.createEntityManager();
+        return executeReadOnly(QueryTimeouts.READ, action);
+    }
+
+    /**
+     * Runs {@code action} read-only within the time budget of
+     * {@code operation} (see {@link QueryTimeouts}).
+     */
+    public <R> R executeReadOnly(String operation, Function<EntityManager, R> action) {
+        return QueryTimeouts.get().within(entityName(), operation, QueryTimeouts.READ, () -> {
+            UnitOfWork unit = UnitOfWork.current();
+            if (unit != null) {
+                return unit.executeReadOnly(em -> QueryTimeouts.apply(em, action));
+            }
+            return executeReadOnlyIsolated(em -> QueryTimeouts.apply(em, action));
+        });
+    }
+
+    // Sempre em um EntityManager próprio, mesmo dentro de uma UnitOfWork
+    private <R> R executeReadOnlyIsolated(Function<EntityManager, R> action) {
         try {
-            return action.apply(em);
+            return runReadOnly(action);
         } catch (Exception e) {
             throw new RuntimeException("Erro ao executar operação de leitura", e);
+        }
+    }
+
+    /**
+     * Runs {@code action} in a fresh read-only EntityManager: entities load
+     * read-only (the session-wide form of the {@code org.hibernate.readOnly}
+     * hint, so no snapshots are kept for dirty checking), the flush mode is
+     * {@link FlushMode#MANUAL}, and the JDBC connection is marked read-only
+     * inside a transaction that is always rolled back, never committed.
+     * With read replicas configured, the connection comes from a replica.
+     */
+    static <R> R runReadOnly(Function<EntityManager, R> action) {
+        EntityManager em = factory().createEntityManager();
+        EntityTransaction tx = em.getTransaction();
+        boolean wasReadOnly = ReadRouting.enterReadOnly();
+        try {
+            Session session = em.unwrap(Session.class);
+            session.setDefaultReadOnly(true);
+            session.setHibernateFlushMode(FlushMode.MANUAL);
+            // O pool restaura o modo leitura-escrita quando a conexão é devolvida
+            session.doWork(connection -> connection.setReadOnly(true));
+
+            tx.begin();
+            return action.apply(em);
         } finally {
+            if (tx.isActive()) {
+                tx.rollback();
+            }
             em.close();
+            ReadRouting.exitReadOnly(wasReadOnly);
+        }
+    }
+
+    /**
+     * Flushes pending writes and, outside a {@link UnitOfWork}, clears the
+     * persistence context; inside one, the caller's managed entities are kept.
+     */
+    private static void flushBatch(EntityManager em) {
+        em.flush();
+        if (!UnitOfWork.isActive()) {
+            em.clear();
         }
     }
     // #endregion Transaction & Execution Control
@@ -62,7 +259,8 @@ public abstract class GenericDAO<T> implements IGenericDAO<T> {
     // #region CRUD Methods
     @Override
     public void save(T entity) {
-        executeInTransaction(em -> {
+        // Sem retentativa: uma tentativa falha deixaria o ID gerado na entidade do chamador
+        executeInTransaction(QueryTimeouts.WRITE, false, em -> {
             em.persist(entity);
             return null;
         });
@@ -84,24 +282,145 @@ public abstract class GenericDAO<T> implements IGenericDAO<T> {
     }
     // #endregion CRUD Methods
 
+    // #region Bulk Methods
+    @Override
+    public void saveAll(MyLinkedList<T> entities) {
+        executeInTransaction(QueryTimeouts.WRITE, false, em -> {
+            int count = 0;
+            for (T entity : entities) {
+                em.persist(entity);
+                if (++count % Settings.BATCH_SIZE == 0) {
+                    flushBatch(em);
+                }
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public MyLinkedList<T> updateAll(MyLinkedList<T> entities) {
+        return executeInTransaction(em -> {
+            MyLinkedList<T> merged = new MyLinkedList<>();
+            int count = 0;
+            for (T entity : entities) {
+                merged.add(em.merge(entity));
+                if (++count % Settings.BATCH_SIZE == 0) {
+                    flushBatch(em);
+                }
+            }
+            return merged;
+        });
+    }
+
+    @Override
+    public void deleteAllById(MyLinkedList<Long> ids) {
+        performInTransaction(em -> {
+            for (List<Long> chunk : chunks(ids, Settings.BATCH_SIZE)) {
+                // Carrega o lote inteiro numa única consulta e remove (respeitando cascades)
+                namedQuery(em, NamedQueries.FIND_BY_IDS, persistentClass)
+                        .setParameter("ids", chunk)
+                        .getResultList()
+                        .forEach(em::remove);
+                flushBatch(em);
+            }
+        });
+    }
+
+    protected static <E> List<List<E>> chunks(Iterable<E> source, int size) {
+        List<List<E>> chunks = new ArrayList<>();
+        List<E> current = new ArrayList<>(size);
+        for (E element : source) {
+            current.add(element);
+            if (current.size() == size) {
+                chunks.add(current);
+                current = new ArrayList<>(size);
+            }
+        }
+        if (!current.isEmpty()) {
+            chunks.add(current);
+        }
+        return chunks;
+    }
+    // #endregion Bulk Methods
+
     // #region Read-only Methods
     @Override
     public T findById(Long id) {
-        return executeReadOnly(em -> em.find(persistentClass, id));
+        return executeReadOnly("findById", em -> em.find(persistentClass, id));
+    }
+
+    @Override
+    public T findById(Long id, FetchPlan plan) {
+        return executeReadOnly("findById", em -> {
+            T entity = em.find(persistentClass, id);
+            if (entity != null) {
+                applyFetchPlan(em, Collections.singletonList(entity), plan);
+            }
+            return entity;
+        });
+    }
+
+    @Override
+    public long countById(MyLinkedList<Long> ids) {
+        return executeReadOnly("countById", em -> {
+            // Sem repetições: um ID presente em dois lotes contaria duas vezes
+            Set<Long> distinct = new LinkedHashSet<>();
+            ids.forEach(distinct::add);
+            long count = 0;
+            for (List<Long> chunk : chunks(distinct, Settings.BATCH_SIZE)) {
+                count += namedQuery(em, NamedQueries.COUNT_BY_IDS, Long.class)
+                        .setParameter("ids", chunk)
+                        .getSingleResult();
+            }
+            return count;
+        });
+    }
+
+    @Override
+    public T reference(Long id) {
+        return executeReadOnly("reference", em -> em.getReference(persistentClass, id));
     }
 
     @Override
     public MyLinkedList<T> findAll() {
-        return executeReadOnly(em -> MyLinkedList.fromJavaList(
-                em.createQuery("FROM " + persistentClass.getName(), persistentClass).getResultList()
+        return executeReadOnly("findAll", em -> MyLinkedList.fromJavaList(
+                namedQuery(em, NamedQueries.FIND_ALL, persistentClass).getResultList()
+        ));
+    }
+
+    /**
+     * Lists every entity of this type as an id/name row, read through a JPQL
+     * constructor expression: no entity is hydrated and no association is
+     * touched. Only for entities with a {@code name} attribute.
+     */
+    public MyLinkedList<ListableDTO> findAllListable() {
+        return executeReadOnly("findAllListable", em -> MyLinkedList.fromJavaList(
+                namedQuery(em, NamedQueries.FIND_ALL_LISTABLE, ListableDTO.class).getResultList()
         ));
     }
 
+    /**
+     * Keyset page of id/name rows ordered by ID; see {@link #findAllListable()}.
+     */
+    public Page<ListableDTO> findListablePage(Long afterId, int limit) {
+        return executeReadOnly("findPage", em -> fetchPage(
+                namedQuery(em, NamedQueries.LISTABLE_PAGE, ListableDTO.class), afterId, limit));
+    }
+
+    /**
+     * Finds the entity with the given name. When {@code name} is the entity's
+     * natural id the lookup goes through the natural-id API, so the
+     * second-level cache can answer it without a query. Only the stored
+     * spelling is cached: the MySQL collation also matches other spellings
+     * ("rpg" finds "RPG"), and a rename or delete evicts only the stored one.
+     */
     public T findByName(String name) {
-        return executeReadOnly(em -> {
+        if (name != null && nameIsNaturalId()) {
+            return executeReadOnly("findByName", em -> findByNaturalName(em.unwrap(Session.class), name));
+        }
+        return executeReadOnly("findByName", em -> {
             try {
-                String jpql = "SELECT t FROM " + persistentClass.getName() + " t WHERE t.name = :name";
-                TypedQuery<T> query = em.createQuery(jpql, persistentClass);
+                TypedQuery<T> query = namedQuery(em, NamedQueries.FIND_BY_NAME, persistentClass);
                 query.setParameter("name", name);
                 return query.getSingleResult();
             } catch (NoResultException e) {
@@ -110,15 +429,262 @@ public abstract class GenericDAO<T> implements IGenericDAO<T> {
         });
     }
 
+    private T findByNaturalName(Session session, String name) {
+        T found = session.bySimpleNaturalId(persistentClass).load(name);
+
+        // O Hibernate guarda a resolução com a grafia pedida; se não é a gravada, ela sai do cache
+        if (found instanceof Listable && !name.equals(((Listable) found).getName())) {
+            SharedSessionContractImplementor source = session.unwrap(SharedSessionContractImplementor.class);
+            EntityPersister persister = source.getFactory().getMetamodel().entityPersister(persistentClass);
+            NaturalIdDataAccess access = persister.getNaturalIdCacheAccessStrategy();
+            if (access != null) {
+                access.evict(access.generateCacheKey(new Object[] {name}, persister, source));
+            }
+        }
+        return found;
+    }
+
     public MyLinkedList<T> findByNameContaining(String searchTerm) {
-        return executeReadOnly(em -> {
-            String jpql = "SELECT t FROM " + persistentClass.getName()
-                    + " t WHERE LOWER(t.name) LIKE LOWER(:searchTerm)";
-            TypedQuery<T> query = em.createQuery(jpql, persistentClass);
+        return executeReadOnly("findByNameContaining", em -> {
+            TypedQuery<T> query = namedQuery(em, NamedQueries.FIND_BY_NAME_CONTAINING, persistentClass);
             String searchTermWithWildcards = "%" + (searchTerm == null ? "" : searchTerm) + "%";
             query.setParameter("searchTerm", searchTermWithWildcards);
             return MyLinkedList.fromJavaList(query.getResultList());
         });
     }
+
+    @Override
+    public Page<T> findPage(Long afterId, int limit) {
+        return findPage(afterId, limit, FetchPlan.NONE);
+    }
+
+    @Override
+    public Page<T> findPage(Long afterId, int limit, FetchPlan plan) {
+        return executeReadOnly("findPage", em -> {
+            Page<T> page = fetchPage(namedQuery(em, NamedQueries.PAGE, persistentClass), afterId, limit);
+            applyFetchPlan(em, page.getItems(), plan);
+            return page;
+        });
+    }
+
+    public Page<T> findByNameContaining(String searchTerm, Long afterId, int limit) {
+        return findByNameContaining(searchTerm, afterId, limit, FetchPlan.NONE);
+    }
+
+    public Page<T> findByNameContaining(String searchTerm, Long afterId, int limit, FetchPlan plan) {
+        return executeReadOnly("findByNameContaining", em -> {
+            TypedQuery<T> query = namedQuery(em, NamedQueries.PAGE_BY_NAME_CONTAINING, persistentClass);
+            query.setParameter("searchTerm", "%" + (searchTerm == null ? "" : searchTerm) + "%");
+            Page<T> page = fetchPage(query, afterId, limit);
+            applyFetchPlan(em, page.getItems(), plan);
+            return page;
+        });
+    }
+
+    /**
+     * Keyset page ordered by name (ties broken by ID). Pass the name and ID of
+     * the previous page's last item, or {@code null}s for the first page.
+     */
+    public Page<T> findPageOrderedByName(String afterName, Long afterId, int limit) {
+        return executeReadOnly("findPage", em -> {
+            if (afterName == null) {
+                return fetchPage(namedQuery(em, NamedQueries.PAGE_ORDERED_BY_NAME_FIRST, persistentClass), null, limit);
+            }
+            TypedQuery<T> query = namedQuery(em, NamedQueries.PAGE_ORDERED_BY_NAME_AFTER, persistentClass);
+            query.setParameter("afterName", afterName);
+            return fetchPage(query, afterId, limit);
+        });
+    }
     // #endregion Read-only Methods
+
+    // #region Async Finders
+    public CompletableFuture<MyLinkedList<ListableDTO>> findAllListableAsync() {
+        return AsyncExecutor.supply(this::findAllListable);
+    }
+
+    public CompletableFuture<T> findByNameAsync(String name) {
+        return AsyncExecutor.supply(() -> findByName(name));
+    }
+
+    public CompletableFuture<MyLinkedList<T>> findByNameContainingAsync(String searchTerm) {
+        return AsyncExecutor.supply(() -> findByNameContaining(searchTerm));
+    }
+
+    public CompletableFuture<Page<T>> findByNameContainingAsync(String searchTerm, Long afterId, int limit,
+            FetchPlan plan) {
+        return AsyncExecutor.supply(() -> findByNameContaining(searchTerm, afterId, limit, plan));
+    }
+    // #endregion Async Finders
+
+    // #region Named Queries
+    /**
+     * Creates the named query {@code <Entity>.<query>} of this DAO's entity,
+     * compiled once at bootstrap (see {@link NamedQueries}).
+     */
+    protected <E> TypedQuery<E> namedQuery(EntityManager em, String query, Class<E> resultType) {
+        return em.createNamedQuery(NamedQueries.name(entityName(), query), resultType);
+    }
+
+    /**
+     * Creates a query generated at runtime, named {@code <Entity>.<shape>}.
+     * {@code jpql} is only built and compiled the first time the shape is
+     * used; afterwards the registered named query is reused, so
+     * {@code shape} must determine the JPQL completely.
+     */
+    protected <E> TypedQuery<E> shapedQuery(EntityManager em, String shape, Supplier<String> jpql,
+            Class<E> resultType) {
+        String name = NamedQueries.name(entityName(), shape);
+        return NamedQueries.shaped(em, name, jpql, resultType);
+    }
+
+    public static int getQueryShapeCount() {
+        return NamedQueries.shapeCount();
+    }
+    // #endregion Named Queries
+
+    // #region Pagination Helpers
+    /**
+     * Runs a keyset query whose WHERE clause compares against {@code :afterId},
+     * reading one extra row to know whether there is a next page.
+     */
+    protected <E> Page<E> fetchPage(TypedQuery<E> query, Long afterId, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("O tamanho da página deve ser positivo.");
+        }
+        query.setParameter("afterId", afterId == null ? 0L : afterId);
+        query.setMaxResults(limit + 1);
+
+        List<E> rows = query.getResultList();
+        boolean hasNext = rows.size() > limit;
+        List<E> items = hasNext ? rows.subList(0, limit) : rows;
+        E last = items.isEmpty() ? null : items.get(items.size() - 1);
+        Long lastId = last == null ? null : idOf(last);
+
+        return new Page<>(MyLinkedList.fromJavaList(items), last, hasNext ? lastId : null);
+    }
+
+    // Projeções não são entidades: o ID vem do próprio Listable
+    private static Long idOf(Object row) {
+        if (row instanceof Listable) {
+            return ((Listable) row).getId();
+        }
+        return (Long) factory().getPersistenceUnitUtil().getIdentifier(row);
+    }
+    // #endregion Pagination Helpers
+
+    // #region ID-then-Hydrate
+    /**
+     * Two-phase finder: {@code idQuery} selects only the matching IDs
+     * (narrow rows, a semi-join instead of JOIN + DISTINCT over whole
+     * entities), then the entities are loaded by primary key in {@code IN}
+     * batches of {@code hibernate.jdbc.batch_size}. The result keeps the
+     * order of the IDs.
+     */
+    protected MyLinkedList<T> findByIdQuery(EntityManager em, TypedQuery<Long> idQuery) {
+        List<Long> ids = idQuery.getResultList();
+        Map<Object, T> byId = new HashMap<>(ids.size() * 2);
+        for (List<Long> chunk : chunks(ids, Settings.BATCH_SIZE)) {
+            QueryTimeouts.checkpoint();
+            for (T entity : namedQuery(em, NamedQueries.FIND_BY_IDS, persistentClass)
+                    .setParameter("ids", chunk)
+                    .getResultList()) {
+                byId.put(factory().getPersistenceUnitUtil().getIdentifier(entity), entity);
+            }
+        }
+
+        MyLinkedList<T> result = new MyLinkedList<>();
+        for (Long id : ids) {
+            T entity = byId.get(id);
+            if (entity != null) {
+                result.add(entity);
+            }
+        }
+        return result;
+    }
+    // #endregion ID-then-Hydrate
+
+    // #region Fetch Plans
+    /**
+     * Loads the entity graphs of {@code plan} for entities already managed by
+     * {@code em}: one {@code IN} query per graph (and per batch of IDs), whose
+     * rows initialize the associations of those same instances.
+     */
+    protected void applyFetchPlan(EntityManager em, Iterable<? extends T> entities, FetchPlan plan) {
+        if (!plan.appliesTo(persistentClass)) {
+            throw new IllegalArgumentException(
+                    "O plano " + plan + " não se aplica a " + persistentClass.getSimpleName());
+        }
+        if (plan.getGraphNames().length == 0) {
+            return;
+        }
+
+        List<Object> ids = new ArrayList<>();
+        for (T entity : entities) {
+            ids.add(factory().getPersistenceUnitUtil().getIdentifier(entity));
+        }
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        for (String graphName : plan.getGraphNames()) {
+            for (List<Object> chunk : chunks(ids, Settings.BATCH_SIZE)) {
+                namedQuery(em, NamedQueries.FIND_BY_IDS, persistentClass)
+                        .setParameter("ids", chunk)
+                        .setHint("javax.persistence.fetchgraph", em.getEntityGraph(graphName))
+                        .getResultList();
+            }
+        }
+    }
+    // #endregion Fetch Plans
+
+    // #region Streaming Methods
+    /**
+     * Visits every entity of this type through a forward-only cursor, in ID
+     * order, without materializing the whole table. Each entity is detached
+     * after {@code action} runs, so it must not rely on lazy loading later.
+     */
+    public void forEachStreaming(Consumer<? super T> action) {
+        forEachStreaming(action, Settings.STREAM_FETCH_SIZE);
+    }
+
+    public void forEachStreaming(Consumer<? super T> action, int fetchSize) {
+        streamQuery(em -> namedQuery(em, NamedQueries.STREAM_ALL, persistentClass), action, fetchSize);
+    }
+
+    protected <E> void streamQuery(Function<EntityManager, TypedQuery<E>> queryBuilder, Consumer<? super E> action) {
+        streamQuery(queryBuilder, action, Settings.STREAM_FETCH_SIZE);
+    }
+
+    protected <E> void streamQuery(Function<EntityManager, TypedQuery<E>> queryBuilder, Consumer<? super E> action,
+            int fetchSize) {
+        // Cursor longo em EntityManager próprio: os clear() não afetam a UnitOfWork
+        QueryTimeouts.get().within(entityName(), QueryTimeouts.STREAM, QueryTimeouts.STREAM,
+                () -> executeReadOnlyIsolated(em -> QueryTimeouts.apply(em,
+                        timed -> streamRows(timed, queryBuilder.apply(timed), action, fetchSize))));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E> Void streamRows(EntityManager em, TypedQuery<E> typedQuery, Consumer<? super E> action,
+            int fetchSize) {
+        org.hibernate.query.Query<E> query = typedQuery.unwrap(org.hibernate.query.Query.class);
+        query.setFetchSize(fetchSize);
+        query.setReadOnly(true);
+
+        try (ScrollableResults results = query.scroll(ScrollMode.FORWARD_ONLY)) {
+            int count = 0;
+            while (results.next()) {
+                // Cancelamento cooperativo: o timeout do JDBC só cobre a abertura do cursor
+                QueryTimeouts.checkpoint();
+                E entity = (E) results.get(0);
+                action.accept(entity);
+                em.detach(entity);
+                // Descarta também as associações carregadas junto com o lote
+                if (++count % fetchSize == 0) {
+                    em.clear();
+                }
+            }
+        }
+        return null;
+    }
+    // #endregion Streaming Methods
 }
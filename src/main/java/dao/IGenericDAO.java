@@ -1,6 +1,7 @@
 package dao;
 
 import utils.MyLinkedList;
+import java.util.concurrent.CompletableFuture;
 
 public interface IGenericDAO<T> {
 
@@ -26,6 +27,31 @@ public interface IGenericDAO<T> {
      */
     void delete(Long id);
 
+    /**
+     * Persists all given entities in a single transaction, using JDBC batching
+     * and flushing/clearing the persistence context every batch.
+     *
+     * @param entities The entities to be saved.
+     */
+    void saveAll(MyLinkedList<T> entities);
+
+    /**
+     * Updates all given entities in a single transaction, using JDBC batching
+     * and flushing/clearing the persistence context every batch.
+     *
+     * @param entities The entities to be updated.
+     * @return The updated entities, in the same order.
+     */
+    MyLinkedList<T> updateAll(MyLinkedList<T> entities);
+
+    /**
+     * Removes all entities with the given IDs in a single transaction.
+     * IDs that do not exist are ignored.
+     *
+     * @param ids The IDs of the entities to be removed.
+     */
+    void deleteAllById(MyLinkedList<Long> ids);
+
     /**
      * Finds an entity by its primary key ID.
      *
@@ -35,10 +61,111 @@ public interface IGenericDAO<T> {
      */
     T findById(Long id);
 
+    /**
+     * Finds an entity by its primary key ID, loading the associations named
+     * by {@code plan}.
+     *
+     * @param id   The ID of the entity to be found.
+     * @param plan The associations the caller is going to use.
+     * @return The found entity, or {@code null} if no entity with the given ID
+     *         exists.
+     */
+    T findById(Long id, FetchPlan plan);
+
+    /**
+     * Counts how many of the given IDs exist, in a single query (per batch of
+     * IDs), without loading the entities. Repeated IDs count once.
+     *
+     * @param ids The IDs to be checked.
+     * @return The number of existing entities among {@code ids}.
+     */
+    long countById(MyLinkedList<Long> ids);
+
+    /**
+     * Returns a reference to the entity with the given ID without loading it:
+     * the instance already managed by the current unit of work, or an
+     * uninitialized proxy. Meant for associations whose target is known to exist.
+     *
+     * @param id The ID of the referenced entity.
+     * @return The reference.
+     */
+    T reference(Long id);
+
     /**
      * Retrieves all instances of the entity type from the database.
      *
      * @return A list containing all entities of the specified type.
      */
     MyLinkedList<T> findAll();
+
+    /**
+     * Retrieves one page of entities ordered by ID, starting right after
+     * {@code afterId} (keyset pagination), so every page costs the same.
+     *
+     * @param afterId The last ID of the previous page, or {@code null} for
+     *                the first page.
+     * @param limit   The maximum number of entities in the page.
+     * @return The requested page.
+     */
+    Page<T> findPage(Long afterId, int limit);
+
+    /**
+     * Same as {@link #findPage(Long, int)}, loading the associations named by
+     * {@code plan} for the entities of the page.
+     */
+    Page<T> findPage(Long afterId, int limit, FetchPlan plan);
+
+    /*
+     * Asynchronous variants: each runs the synchronous operation on the
+     * AsyncExecutor, in its own EntityManager and transaction, so independent
+     * queries can be fanned out and joined by the caller.
+     */
+
+    default CompletableFuture<Void> saveAsync(T entity) {
+        return AsyncExecutor.run(() -> save(entity));
+    }
+
+    default CompletableFuture<T> updateAsync(T entity) {
+        return AsyncExecutor.supply(() -> update(entity));
+    }
+
+    default CompletableFuture<Void> deleteAsync(Long id) {
+        return AsyncExecutor.run(() -> delete(id));
+    }
+
+    default CompletableFuture<Void> saveAllAsync(MyLinkedList<T> entities) {
+        return AsyncExecutor.run(() -> saveAll(entities));
+    }
+
+    default CompletableFuture<MyLinkedList<T>> updateAllAsync(MyLinkedList<T> entities) {
+        return AsyncExecutor.supply(() -> updateAll(entities));
+    }
+
+    default CompletableFuture<Void> deleteAllByIdAsync(MyLinkedList<Long> ids) {
+        return AsyncExecutor.run(() -> deleteAllById(ids));
+    }
+
+    default CompletableFuture<T> findByIdAsync(Long id) {
+        return AsyncExecutor.supply(() -> findById(id));
+    }
+
+    default CompletableFuture<T> findByIdAsync(Long id, FetchPlan plan) {
+        return AsyncExecutor.supply(() -> findById(id, plan));
+    }
+
+    default CompletableFuture<Long> countByIdAsync(MyLinkedList<Long> ids) {
+        return AsyncExecutor.supply(() -> countById(ids));
+    }
+
+    default CompletableFuture<MyLinkedList<T>> findAllAsync() {
+        return AsyncExecutor.supply(this::findAll);
+    }
+
+    default CompletableFuture<Page<T>> findPageAsync(Long afterId, int limit) {
+        return AsyncExecutor.supply(() -> findPage(afterId, limit));
+    }
+
+    default CompletableFuture<Page<T>> findPageAsync(Long afterId, int limit, FetchPlan plan) {
+        return AsyncExecutor.supply(() -> findPage(afterId, limit, plan));
+    }
 }
\ No newline at end of file
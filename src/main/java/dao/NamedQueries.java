@@ -0,0 +1,147 @@
+package dao;
+
+import dto.ListableDTO;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.TypedQuery;
+import javax.persistence.metamodel.Attribute;
+import javax.persistence.metamodel.EntityType;
+import javax.persistence.metamodel.Type;
+
+/**
+ * Registry of the generic queries shared by every DAO (find all, by name,
+ * keyset pages...). When the EntityManagerFactory starts they are compiled
+ * once per entity and registered as named queries, alongside the
+ * entity-specific {@code @NamedQuery} declarations, so a query that does
+ * not compile fails the bootstrap instead of a screen.
+ * <p>
+ * Every query is registered as {@code <Entity>.<query>}, e.g.
+ * {@code Game.findByName}.
+ * <p>
+ * Queries generated at runtime (see {@link #shaped}) are registered the same
+ * way the first time each shape is used.
+ */
+final class NamedQueries {
+
+    // #region Generic Queries
+    static final String FIND_ALL = "findAll";
+    static final String FIND_BY_IDS = "findByIds";
+    static final String COUNT_BY_IDS = "countByIds";
+    static final String PAGE = "page";
+    static final String STREAM_ALL = "streamAll";
+
+    // Somente para entidades com atributo "name"
+    static final String FIND_BY_NAME = "findByName";
+    static final String FIND_BY_NAME_CONTAINING = "findByNameContaining";
+    static final String PAGE_BY_NAME_CONTAINING = "pageByNameContaining";
+    static final String PAGE_ORDERED_BY_NAME_FIRST = "pageOrderedByNameFirst";
+    static final String PAGE_ORDERED_BY_NAME_AFTER = "pageOrderedByNameAfter";
+    static final String FIND_ALL_LISTABLE = "findAllListable";
+    static final String LISTABLE_PAGE = "listablePage";
+
+    private static final Map<String, String> BY_ID = new LinkedHashMap<>();
+    private static final Map<String, String> BY_NAME = new LinkedHashMap<>();
+
+    private static final Set<String> SHAPES = ConcurrentHashMap.newKeySet();
+
+    static {
+        BY_ID.put(FIND_ALL, "SELECT t FROM {e} t");
+        BY_ID.put(FIND_BY_IDS, "SELECT t FROM {e} t WHERE t.id IN :ids");
+        BY_ID.put(COUNT_BY_IDS, "SELECT COUNT(t) FROM {e} t WHERE t.id IN :ids");
+        BY_ID.put(PAGE, "SELECT t FROM {e} t WHERE t.id > :afterId ORDER BY t.id");
+        BY_ID.put(STREAM_ALL, "SELECT t FROM {e} t ORDER BY t.id");
+
+        BY_NAME.put(FIND_BY_NAME, "SELECT t FROM {e} t WHERE t.name = :name");
+        BY_NAME.put(FIND_BY_NAME_CONTAINING, "SELECT t FROM {e} t WHERE LOWER(t.name) LIKE LOWER(:searchTerm)");
+        BY_NAME.put(PAGE_BY_NAME_CONTAINING,
+                "SELECT t FROM {e} t WHERE LOWER(t.name) LIKE LOWER(:searchTerm) AND t.id > :afterId ORDER BY t.id");
+        BY_NAME.put(PAGE_ORDERED_BY_NAME_FIRST, "SELECT t FROM {e} t WHERE t.id > :afterId ORDER BY t.name, t.id");
+        BY_NAME.put(PAGE_ORDERED_BY_NAME_AFTER,
+                "SELECT t FROM {e} t WHERE t.name > :afterName OR (t.name = :afterName AND t.id > :afterId)"
+                + " ORDER BY t.name, t.id");
+        BY_NAME.put(FIND_ALL_LISTABLE,
+                "SELECT new " + ListableDTO.class.getName() + "(t.id, t.name) FROM {e} t ORDER BY t.id");
+        BY_NAME.put(LISTABLE_PAGE,
+                "SELECT new " + ListableDTO.class.getName() + "(t.id, t.name) FROM {e} t"
+                + " WHERE t.id > :afterId ORDER BY t.id");
+    }
+    // #endregion Generic Queries
+
+    private NamedQueries() {
+    }
+
+    // #region Registration
+    /**
+     * Compiles the generic queries for every mapped entity with a basic ID
+     * and registers them in {@code factory}. Throws if any of them does not compile.
+     */
+    static void registerAll(EntityManagerFactory factory) {
+        EntityManager em = factory.createEntityManager();
+        try {
+            for (EntityType<?> type : factory.getMetamodel().getEntities()) {
+                // Vínculos com chave composta (GameGenre...) não têm DAO nem "id" comparável
+                if (type.getIdType().getPersistenceType() != Type.PersistenceType.BASIC) {
+                    continue;
+                }
+                register(factory, em, type.getName(), BY_ID);
+                if (hasAttribute(type, "name")) {
+                    register(factory, em, type.getName(), BY_NAME);
+                }
+            }
+        } finally {
+            em.close();
+        }
+    }
+
+    private static void register(EntityManagerFactory factory, EntityManager em, String entityName,
+            Map<String, String> templates) {
+        for (Map.Entry<String, String> template : templates.entrySet()) {
+            String jpql = template.getValue().replace("{e}", entityName);
+            factory.addNamedQuery(name(entityName, template.getKey()), em.createQuery(jpql));
+        }
+    }
+
+    private static boolean hasAttribute(EntityType<?> type, String attributeName) {
+        for (Attribute<?, ?> attribute : type.getAttributes()) {
+            if (attribute.getName().equals(attributeName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static String name(String entityName, String query) {
+        return entityName + "." + query;
+    }
+    // #endregion Registration
+
+    // #region Query Shapes
+    /**
+     * Creates the generated query {@code name}, building and compiling
+     * {@code jpql} and registering it as a named query only the first time
+     * the name is seen.
+     * The name must identify the JPQL: same name, same query text.
+     */
+    static <E> TypedQuery<E> shaped(EntityManager em, String name, Supplier<String> jpql,
+            Class<E> resultType) {
+        if (!SHAPES.contains(name)) {
+            synchronized (SHAPES) {
+                if (!SHAPES.contains(name)) {
+                    em.getEntityManagerFactory().addNamedQuery(name, em.createQuery(jpql.get(), resultType));
+                    SHAPES.add(name);
+                }
+            }
+        }
+        return em.createNamedQuery(name, resultType);
+    }
+
+    static int shapeCount() {
+        return SHAPES.size();
+    }
+    // #endregion Query Shapes
+}
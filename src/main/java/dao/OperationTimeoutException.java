@@ -0,0 +1,27 @@
+package dao;
+
+/**
+ * Thrown when a DAO operation runs past its time budget (see
+ * {@link QueryTimeouts}): the database cancelled one of its statements, or a
+ * streaming read was stopped between rows. Nothing was committed by it.
+ */
+public class OperationTimeoutException extends RuntimeException {
+
+    private final String operation;
+    private final long budgetMillis;
+
+    public OperationTimeoutException(String operation, long budgetMillis, Throwable cause) {
+        super("A operação " + operation + " excedeu o limite de " + budgetMillis + " ms", cause);
+        this.operation = operation;
+        this.budgetMillis = budgetMillis;
+    }
+
+    /** {@code <Entity>.<operation>}, e.g. {@code Game.findByNameContaining}. */
+    public String getOperation() {
+        return operation;
+    }
+
+    public long getBudgetMillis() {
+        return budgetMillis;
+    }
+}
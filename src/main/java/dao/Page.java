@@ -0,0 +1,48 @@
+package dao;
+
+import utils.MyLinkedList;
+
+/**
+ * One page of a keyset (seek) query. The next page is requested by passing
+ * {@link #getNextAfterId()} back as the {@code afterId} of the same finder.
+ */
+public class Page<T> {
+
+    private final MyLinkedList<T> items;
+    private final T lastItem;
+    private final Long nextAfterId;
+
+    public Page(MyLinkedList<T> items, T lastItem, Long nextAfterId) {
+        this.items = items;
+        this.lastItem = lastItem;
+        this.nextAfterId = nextAfterId;
+    }
+
+    public MyLinkedList<T> getItems() {
+        return items;
+    }
+
+    /**
+     * @return The last item of this page, used to build cursors on sort keys
+     *         other than the ID, or {@code null} if the page is empty.
+     */
+    public T getLastItem() {
+        return lastItem;
+    }
+
+    /**
+     * @return The cursor for the next page, or {@code null} if this is the
+     *         last page.
+     */
+    public Long getNextAfterId() {
+        return nextAfterId;
+    }
+
+    public boolean hasNext() {
+        return nextAfterId != null;
+    }
+
+    public boolean isEmpty() {
+        return items.isEmpty();
+    }
+}
@@ -0,0 +1,98 @@
+package dao;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.Persistence;
+
+/**
+ * Owns the application's EntityManagerFactory. Building it scans the
+ * entities, runs the schema update and opens the pool, which takes seconds;
+ * {@link #startInBackground()} starts that on a daemon thread at application
+ * start so the console can render menus meanwhile. Only the first operation
+ * that needs the database waits for it.
+ * <p>
+ * Without a background start the factory is built on first use, on the
+ * calling thread.
+ */
+public final class PersistenceBootstrap {
+
+    private static final String PERSISTENCE_UNIT = "desktop-game-manager";
+
+    private static final Object LOCK = new Object();
+    private static CompletableFuture<EntityManagerFactory> pending;
+    private static volatile EntityManagerFactory factory;
+
+    private static volatile long startNanos;
+    private static volatile long readyNanos;
+
+    private PersistenceBootstrap() {
+    }
+
+    // #region Bootstrap
+    public static void startInBackground() {
+        CompletableFuture<EntityManagerFactory> started;
+        synchronized (LOCK) {
+            if (pending != null) {
+                return;
+            }
+            pending = started = new CompletableFuture<>();
+        }
+
+        Thread thread = new Thread(() -> build(started), "dgm-bootstrap");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    static EntityManagerFactory factory() {
+        EntityManagerFactory ready = factory;
+        if (ready != null) {
+            return ready;
+        }
+
+        CompletableFuture<EntityManagerFactory> awaited;
+        boolean buildHere = false;
+        synchronized (LOCK) {
+            if (pending == null) {
+                pending = new CompletableFuture<>();
+                buildHere = true;
+            }
+            awaited = pending;
+        }
+        if (buildHere) {
+            build(awaited);
+        }
+
+        try {
+            return awaited.join();
+        } catch (CompletionException e) {
+            throw new RuntimeException("Erro ao inicializar a persistência", e.getCause());
+        }
+    }
+
+    private static void build(CompletableFuture<EntityManagerFactory> target) {
+        startNanos = System.nanoTime();
+        try {
+            EntityManagerFactory built = Persistence.createEntityManagerFactory(
+                    PERSISTENCE_UNIT, PersistenceProfile.current().overrides());
+            NamedQueries.registerAll(built);
+            factory = built;
+            readyNanos = System.nanoTime();
+            target.complete(built);
+        } catch (RuntimeException | Error e) {
+            target.completeExceptionally(e);
+        }
+    }
+    // #endregion Bootstrap
+
+    // #region Metrics
+    public static boolean isReady() {
+        return factory != null;
+    }
+
+    /** How long building the factory took, or -1 while it is not ready. */
+    public static long getBootstrapMillis() {
+        return factory == null ? -1 : (readyNanos - startNanos) / 1_000_000;
+    }
+    // #endregion Metrics
+}
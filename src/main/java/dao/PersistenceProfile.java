@@ -0,0 +1,67 @@
+package dao;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Database the persistence unit boots against, chosen with the
+ * {@code dgm.profile} system property. {@link #MYSQL} (the default) uses
+ * {@code persistence.xml} as is; the H2 profiles run the same entities on an
+ * embedded H2 database in MySQL compatibility mode, so the DAO layer can be
+ * exercised and benchmarked without a MySQL server.
+ */
+public enum PersistenceProfile {
+
+    /** The MySQL server configured in {@code persistence.xml}. */
+    MYSQL("mysql"),
+
+    /** In-memory H2, alive while the JVM runs; the schema is created at boot. */
+    H2("h2"),
+
+    /** File-backed H2 at {@code dgm.h2.path} (default {@code ./data/dgm}). */
+    H2_FILE("h2-file");
+
+    public static final String PROFILE = "dgm.profile";
+    public static final String H2_PATH = "dgm.h2.path";
+
+    // MODE=MySQL aceita a sintaxe/tipos do MySQL usados pelo schema e pelas consultas nativas
+    private static final String H2_OPTIONS = ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    private final String key;
+
+    PersistenceProfile(String key) {
+        this.key = key;
+    }
+
+    public static PersistenceProfile current() {
+        String value = System.getProperty(PROFILE, MYSQL.key).trim().toLowerCase(Locale.ROOT);
+        for (PersistenceProfile profile : values()) {
+            if (profile.key.equals(value)) {
+                return profile;
+            }
+        }
+        throw new IllegalArgumentException("Perfil de persistência desconhecido: " + value);
+    }
+
+    /** Settings layered over {@code persistence.xml} for this profile. */
+    Map<String, Object> overrides() {
+        Map<String, Object> settings = new HashMap<>();
+        if (this == MYSQL) {
+            return settings;
+        }
+
+        String url = this == H2
+                ? "jdbc:h2:mem:dgm" + H2_OPTIONS
+                : "jdbc:h2:file:" + System.getProperty(H2_PATH, "./data/dgm") + H2_OPTIONS;
+        settings.put("hibernate.connection.url", url);
+        settings.put("hibernate.connection.driver_class", "org.h2.Driver");
+        settings.put("hibernate.connection.username", "sa");
+        settings.put("hibernate.connection.password", "");
+        settings.put("hibernate.dialect", "org.hibernate.dialect.H2Dialect");
+
+        // Sem schema explícito, o "update" confunde a tabela users com INFORMATION_SCHEMA.USERS
+        settings.put("hibernate.default_schema", "public");
+        return settings;
+    }
+}
@@ -0,0 +1,195 @@
+package dao;
+
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import javax.persistence.EntityManager;
+import javax.persistence.QueryTimeoutException;
+
+/**
+ * Time budgets of DAO operations. An operation's budget starts when it is
+ * called and covers all of its statements (and retries): every query it
+ * creates gets the time left as its {@code javax.persistence.query.timeout},
+ * which Hibernate passes on as the JDBC {@code setQueryTimeout}, and long
+ * loops (streaming, hydration batches) call {@link #checkpoint()} to stop
+ * between rows once the budget is spent. Either way the caller gets an
+ * {@link OperationTimeoutException}.
+ * <p>
+ * Budgets are in milliseconds, {@code 0} meaning no limit, and are looked up
+ * as {@code dgm.timeout.<Entity>.<operation>Ms}, then
+ * {@code dgm.timeout.<operation>Ms}, then the default of the operation's
+ * kind ({@code dgm.timeout.readMs}, {@code writeMs} or {@code streamMs}).
+ * An operation called inside another keeps the outer deadline when it is
+ * the tighter one.
+ */
+final class QueryTimeouts {
+
+    static final String READ = "read";
+    static final String WRITE = "write";
+    static final String STREAM = "stream";
+
+    private static final String HINT = "javax.persistence.query.timeout";
+
+    // 57014: comando cancelado (H2, PostgreSQL); MySQL: ER_QUERY_TIMEOUT (MAX_EXECUTION_TIME)
+    private static final String CANCELLED_STATE = "57014";
+    private static final int MYSQL_QUERY_TIMEOUT = 3024;
+
+    private static final ThreadLocal<Budget> CURRENT = new ThreadLocal<>();
+    private static volatile QueryTimeouts instance;
+
+    private final Map<String, Long> budgets = new ConcurrentHashMap<>();
+    private final TimeoutMetrics metrics = new TimeoutMetrics();
+
+    private QueryTimeouts() {
+    }
+
+    static QueryTimeouts get() {
+        QueryTimeouts timeouts = instance;
+        if (timeouts == null) {
+            synchronized (QueryTimeouts.class) {
+                if (instance == null) {
+                    instance = new QueryTimeouts();
+                }
+                timeouts = instance;
+            }
+        }
+        return timeouts;
+    }
+
+    TimeoutMetrics getMetrics() {
+        return metrics;
+    }
+
+    // #region Budgets
+    long budgetMillis(String entityName, String operation, String kind) {
+        return budgets.computeIfAbsent(entityName + "." + operation, key -> Long.parseLong(
+                GenericDAO.getSetting("dgm.timeout." + key + "Ms",
+                        GenericDAO.getSetting("dgm.timeout." + operation + "Ms",
+                                GenericDAO.getSetting("dgm.timeout." + kind + "Ms", "0")))));
+    }
+
+    /**
+     * Runs {@code work} as the operation {@code <entityName>.<operation>},
+     * turning a statement timeout inside it into an
+     * {@link OperationTimeoutException}.
+     */
+    <R> R within(String entityName, String operation, String kind, Supplier<R> work) {
+        long budgetMillis = budgetMillis(entityName, operation, kind);
+        Budget outer = CURRENT.get();
+        if (budgetMillis <= 0) {
+            return work.get();
+        }
+        long deadline = System.nanoTime() + budgetMillis * 1_000_000;
+        if (outer != null && outer.deadlineNanos - deadline <= 0) {
+            return work.get();
+        }
+
+        Budget budget = new Budget(entityName + "." + operation, budgetMillis, deadline);
+        CURRENT.set(budget);
+        try {
+            return work.get();
+        } catch (RuntimeException e) {
+            OperationTimeoutException timeout = find(e);
+            if (timeout != null) {
+                throw timeout;
+            }
+            if (isTimeout(e)) {
+                metrics.recordQueryTimeout(budget.operation);
+                throw new OperationTimeoutException(budget.operation, budget.millis, e);
+            }
+            throw e;
+        } finally {
+            if (outer == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(outer);
+            }
+        }
+    }
+    // #endregion Budgets
+
+    // #region Enforcement
+    /**
+     * Runs {@code action} with the time left in the current budget as the
+     * timeout of every query {@code em} creates meanwhile.
+     */
+    static <R> R apply(EntityManager em, Function<EntityManager, R> action) {
+        Budget budget = CURRENT.get();
+        if (budget == null) {
+            return action.apply(em);
+        }
+        checkpoint();
+
+        // O Hibernate arredonda a dica para segundos: arredonda para cima, senão < 500 ms vira "sem limite"
+        long remainingMillis = (budget.remainingNanos() + 999_999) / 1_000_000;
+        long timeoutMillis = Math.max(1, (remainingMillis + 999) / 1000) * 1000;
+        Object previous = em.getProperties().get(HINT);
+        em.setProperty(HINT, (int) Math.min(Integer.MAX_VALUE, timeoutMillis));
+        try {
+            return action.apply(em);
+        } finally {
+            em.setProperty(HINT, previous == null ? 0 : previous);
+        }
+    }
+
+    /**
+     * Cancellation point for long loops: throws an
+     * {@link OperationTimeoutException} once the current budget is spent.
+     */
+    static void checkpoint() {
+        Budget budget = CURRENT.get();
+        if (budget != null && budget.remainingNanos() <= 0) {
+            get().metrics.recordCancellation(budget.operation);
+            throw new OperationTimeoutException(budget.operation, budget.millis, null);
+        }
+    }
+    // #endregion Enforcement
+
+    // #region Classification
+    private static OperationTimeoutException find(Throwable failure) {
+        for (Throwable t = failure; t != null; t = t.getCause() == t ? null : t.getCause()) {
+            if (t instanceof OperationTimeoutException) {
+                return (OperationTimeoutException) t;
+            }
+        }
+        return null;
+    }
+
+    static boolean isTimeout(Throwable failure) {
+        for (Throwable t = failure; t != null; t = t.getCause() == t ? null : t.getCause()) {
+            if (t instanceof QueryTimeoutException
+                    || t instanceof org.hibernate.QueryTimeoutException
+                    || t instanceof SQLTimeoutException) {
+                return true;
+            }
+            if (t instanceof SQLException) {
+                SQLException e = (SQLException) t;
+                if (CANCELLED_STATE.equals(e.getSQLState()) || e.getErrorCode() == MYSQL_QUERY_TIMEOUT) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+    // #endregion Classification
+
+    private static final class Budget {
+
+        final String operation;
+        final long millis;
+        final long deadlineNanos;
+
+        Budget(String operation, long millis, long deadlineNanos) {
+            this.operation = operation;
+            this.millis = millis;
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        long remainingNanos() {
+            return deadlineNanos - System.nanoTime();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package dao;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters of the transaction retry policy: transient failures seen, retries
+ * made, transactions that succeeded after retrying, and those that failed
+ * anyway (retries exhausted or retry budget empty).
+ */
+public class RetryMetrics {
+
+    private final LongAdder transientFailures = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder recovered = new LongAdder();
+    private final LongAdder exhausted = new LongAdder();
+    private final LongAdder budgetRejections = new LongAdder();
+
+    // #region Recording
+    void recordTransientFailure() {
+        transientFailures.increment();
+    }
+
+    void recordRetry() {
+        retries.increment();
+    }
+
+    void recordRecovered() {
+        recovered.increment();
+    }
+
+    void recordExhausted() {
+        exhausted.increment();
+    }
+
+    void recordBudgetRejection() {
+        budgetRejections.increment();
+    }
+    // #endregion Recording
+
+    // #region Reading
+    public long getTransientFailures() {
+        return transientFailures.sum();
+    }
+
+    public long getRetries() {
+        return retries.sum();
+    }
+
+    public long getRecovered() {
+        return recovered.sum();
+    }
+
+    public long getExhausted() {
+        return exhausted.sum();
+    }
+
+    /** Retries skipped because the shared retry budget was empty. */
+    public long getBudgetRejections() {
+        return budgetRejections.sum();
+    }
+    // #endregion Reading
+}
@@ -0,0 +1,211 @@
+package dao;
+
+import java.sql.SQLException;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTransactionRollbackException;
+import java.sql.SQLTransientConnectionException;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import javax.persistence.EntityTransaction;
+import javax.persistence.LockTimeoutException;
+import javax.persistence.PessimisticLockException;
+import org.hibernate.exception.JDBCConnectionException;
+import org.hibernate.exception.LockAcquisitionException;
+
+/**
+ * Re-runs a whole transaction when it fails for a transient reason:
+ * deadlock, lock-wait timeout, serialization failure or a dropped
+ * connection. Each retry waits a random time up to an exponentially growing
+ * cap ("full jitter"), so transactions that deadlocked together do not
+ * collide again.
+ * <p>
+ * Retries also draw from a budget shared by all transactions and refilled by
+ * every successful one ({@code dgm.retry.budgetRatio} tokens per success),
+ * so a database that keeps failing gets errors instead of a retry storm.
+ * <p>
+ * The retried work must be safe to run again from scratch: it gets a fresh
+ * EntityManager each time, and nothing from the failed attempt is kept. So
+ * only work that builds its own entities is retried (the
+ * {@link UnitOfWork} service closures); a failed attempt leaves the IDENTITY
+ * ids it generated on the entities it persisted, so DAO saves of the
+ * caller's entities run once. A connection lost during the commit is not
+ * retried either: the server may have committed (see {@link #commit}).
+ */
+final class RetryPolicy {
+
+    // MySQL: ER_LOCK_DEADLOCK e ER_LOCK_WAIT_TIMEOUT
+    private static final int MYSQL_DEADLOCK = 1213;
+    private static final int MYSQL_LOCK_WAIT_TIMEOUT = 1205;
+
+    private static final long BUDGET_SCALE = 1_000;
+    private static final long BUDGET_MAX_TOKENS = 10;
+
+    private static volatile RetryPolicy instance;
+
+    private final int maxRetries;
+    private final long baseDelayMs;
+    private final long maxDelayMs;
+    private final long refillPerSuccess;
+    private final AtomicLong budget = new AtomicLong(BUDGET_MAX_TOKENS * BUDGET_SCALE);
+    private final RetryMetrics metrics = new RetryMetrics();
+
+    private RetryPolicy(int maxRetries, long baseDelayMs, long maxDelayMs, double budgetRatio) {
+        this.maxRetries = maxRetries;
+        this.baseDelayMs = baseDelayMs;
+        this.maxDelayMs = maxDelayMs;
+        this.refillPerSuccess = Math.round(budgetRatio * BUDGET_SCALE);
+    }
+
+    static RetryPolicy get() {
+        RetryPolicy policy = instance;
+        if (policy == null) {
+            synchronized (RetryPolicy.class) {
+                if (instance == null) {
+                    Map<String, Object> properties = PersistenceBootstrap.factory().getProperties();
+                    instance = new RetryPolicy(
+                            Integer.parseInt(property(properties, "dgm.retry.maxRetries", "3")),
+                            Long.parseLong(property(properties, "dgm.retry.baseDelayMs", "50")),
+                            Long.parseLong(property(properties, "dgm.retry.maxDelayMs", "1000")),
+                            Double.parseDouble(property(properties, "dgm.retry.budgetRatio", "0.1")));
+                }
+                policy = instance;
+            }
+        }
+        return policy;
+    }
+
+    private static String property(Map<String, Object> properties, String key, String defaultValue) {
+        return System.getProperty(key, String.valueOf(properties.getOrDefault(key, defaultValue))).trim();
+    }
+
+    RetryMetrics getMetrics() {
+        return metrics;
+    }
+
+    // #region Execution
+    <R> R execute(Supplier<R> transaction) {
+        for (int attempt = 0; ; attempt++) {
+            try {
+                R result = transaction.get();
+                refill();
+                if (attempt > 0) {
+                    metrics.recordRecovered();
+                }
+                return result;
+            } catch (RuntimeException e) {
+                if (!isTransient(e)) {
+                    throw e;
+                }
+                metrics.recordTransientFailure();
+                if (attempt >= maxRetries) {
+                    metrics.recordExhausted();
+                    throw e;
+                }
+                if (!takeFromBudget()) {
+                    metrics.recordBudgetRejection();
+                    throw e;
+                }
+                backoff(attempt, e);
+                metrics.recordRetry();
+            }
+        }
+    }
+
+    /**
+     * Commits {@code tx}. If the connection drops during the commit, the
+     * outcome is unknown, and re-running the transaction could apply its
+     * writes twice, so the failure is marked as not transient.
+     */
+    static void commit(EntityTransaction tx) {
+        try {
+            tx.commit();
+        } catch (RuntimeException e) {
+            if (isConnectionLoss(e)) {
+                throw new UncertainCommitException(e);
+            }
+            throw e;
+        }
+    }
+
+    private void backoff(int attempt, RuntimeException failure) {
+        long cap = Math.min(maxDelayMs, baseDelayMs << Math.min(attempt, 20));
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(cap + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw failure;
+        }
+    }
+
+    private boolean takeFromBudget() {
+        while (true) {
+            long tokens = budget.get();
+            if (tokens < BUDGET_SCALE) {
+                return false;
+            }
+            if (budget.compareAndSet(tokens, tokens - BUDGET_SCALE)) {
+                return true;
+            }
+        }
+    }
+
+    private void refill() {
+        budget.accumulateAndGet(refillPerSuccess, (tokens, add) -> Math.min(BUDGET_MAX_TOKENS * BUDGET_SCALE, tokens + add));
+    }
+    // #endregion Execution
+
+    // #region Classification
+    static boolean isTransient(Throwable failure) {
+        for (Throwable t = failure; t != null; t = t.getCause() == t ? null : t.getCause()) {
+            if (t instanceof UncertainCommitException) {
+                return false;
+            }
+            if (t instanceof LockAcquisitionException
+                    || t instanceof LockTimeoutException
+                    || t instanceof PessimisticLockException
+                    || t instanceof SQLTransactionRollbackException) {
+                return true;
+            }
+            if (t instanceof SQLException && isTransient((SQLException) t)) {
+                return true;
+            }
+        }
+        return isConnectionLoss(failure);
+    }
+
+    private static boolean isTransient(SQLException e) {
+        if (e.getErrorCode() == MYSQL_DEADLOCK || e.getErrorCode() == MYSQL_LOCK_WAIT_TIMEOUT) {
+            return true;
+        }
+        String state = e.getSQLState();
+        // 40001: falha de serialização/deadlock; 40P01: deadlock; HYT00: timeout de lock (H2)
+        return "40001".equals(state) || "40P01".equals(state) || "HYT00".equals(state);
+    }
+
+    private static boolean isConnectionLoss(Throwable failure) {
+        for (Throwable t = failure; t != null; t = t.getCause() == t ? null : t.getCause()) {
+            if (t instanceof JDBCConnectionException
+                    || t instanceof SQLTransientConnectionException
+                    || t instanceof SQLRecoverableException) {
+                return true;
+            }
+            // 08xxx: conexão
+            if (t instanceof SQLException && ((SQLException) t).getSQLState() != null
+                    && ((SQLException) t).getSQLState().startsWith("08")) {
+                return true;
+            }
+        }
+        return false;
+    }
+    // #endregion Classification
+
+    /** The connection dropped during a commit: the transaction may or may not have been applied. */
+    private static final class UncertainCommitException extends RuntimeException {
+
+        UncertainCommitException(Throwable cause) {
+            super("Conexão perdida durante o commit: não se sabe se a transação foi aplicada", cause);
+        }
+    }
+}
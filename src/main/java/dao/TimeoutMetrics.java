@@ -0,0 +1,54 @@
+package dao;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters of the operation time budgets: statements the database cancelled
+ * at their timeout, streaming reads stopped between rows, and both per
+ * operation ({@code <Entity>.<operation>}).
+ */
+public class TimeoutMetrics {
+
+    private final LongAdder queryTimeouts = new LongAdder();
+    private final LongAdder cancellations = new LongAdder();
+    private final Map<String, LongAdder> byOperation = new ConcurrentHashMap<>();
+
+    // #region Recording
+    void recordQueryTimeout(String operation) {
+        queryTimeouts.increment();
+        byOperation.computeIfAbsent(operation, key -> new LongAdder()).increment();
+    }
+
+    void recordCancellation(String operation) {
+        cancellations.increment();
+        byOperation.computeIfAbsent(operation, key -> new LongAdder()).increment();
+    }
+    // #endregion Recording
+
+    // #region Reading
+    /** Statements cancelled by the database when their timeout expired. */
+    public long getQueryTimeouts() {
+        return queryTimeouts.sum();
+    }
+
+    /** Streaming reads stopped between rows because the budget ran out. */
+    public long getCancellations() {
+        return cancellations.sum();
+    }
+
+    public long getTotal() {
+        return getQueryTimeouts() + getCancellations();
+    }
+
+    /** Timeouts per operation, sorted by name. */
+    public Map<String, Long> getByOperation() {
+        Map<String, Long> counts = new TreeMap<>();
+        byOperation.forEach((operation, count) -> counts.put(operation, count.sum()));
+        return Collections.unmodifiableMap(counts);
+    }
+    // #endregion Reading
+}
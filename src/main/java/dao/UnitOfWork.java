@@ -0,0 +1,160 @@
+package dao;
+
+import dao.pool.ReadRouting;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import javax.persistence.EntityManager;
+import javax.persistence.EntityTransaction;
+
+/**
+ * Thread-bound unit of work: while a service operation runs inside one, every
+ * DAO call on the same thread shares a single EntityManager (and therefore a
+ * single connection and first-level cache) instead of opening its own.
+ * <p>
+ * Nested units join the outermost one. Entities returned by the work are
+ * detached once the outermost unit ends, exactly as with plain DAO calls.
+ */
+public final class UnitOfWork {
+
+    private static final ThreadLocal<UnitOfWork> CURRENT = new ThreadLocal<>();
+
+    private final EntityManager entityManager;
+    private final boolean readOnly;
+
+    private UnitOfWork(EntityManager entityManager, boolean readOnly) {
+        this.entityManager = entityManager;
+        this.readOnly = readOnly;
+    }
+
+    static UnitOfWork current() {
+        return CURRENT.get();
+    }
+
+    public static boolean isActive() {
+        return CURRENT.get() != null;
+    }
+
+    /** Whether this thread is inside a unit that may write (and has not committed yet). */
+    public static boolean isWriting() {
+        UnitOfWork current = CURRENT.get();
+        return current != null && !current.readOnly;
+    }
+
+    // #region Scopes
+    /**
+     * Runs {@code work} in one EntityManager and one transaction, committed
+     * when the work returns and rolled back if it throws. The outermost unit
+     * is re-run from scratch on transient failures (see {@link RetryPolicy}).
+     */
+    public static <R> R executeInTransaction(Supplier<R> work) {
+        UnitOfWork current = CURRENT.get();
+        if (current != null) {
+            return current.join(em -> work.get());
+        }
+        return RetryPolicy.get().execute(() -> runInNewUnit(work));
+    }
+
+    private static <R> R runInNewUnit(Supplier<R> work) {
+        UnitOfWork unit = open(GenericDAO.createEntityManager(), false);
+        EntityTransaction tx = unit.entityManager.getTransaction();
+        try {
+            tx.begin();
+            R result = work.get();
+            RetryPolicy.commit(tx);
+            ReadRouting.markWrite();
+            return result;
+        } catch (RuntimeException e) {
+            if (tx.isActive()) {
+                tx.rollback();
+            }
+            throw e;
+        } finally {
+            unit.close();
+        }
+    }
+
+    public static void performInTransaction(Runnable work) {
+        executeInTransaction(() -> {
+            work.run();
+            return null;
+        });
+    }
+
+    /**
+     * Runs {@code work} in one read-only EntityManager (see
+     * {@link GenericDAO#runReadOnly}). DAO writes inside it are rejected.
+     */
+    public static <R> R executeReadOnly(Supplier<R> work) {
+        if (CURRENT.get() != null) {
+            return work.get();
+        }
+
+        return GenericDAO.runReadOnly(em -> {
+            open(em, true);
+            try {
+                return work.get();
+            } finally {
+                CURRENT.remove();
+            }
+        });
+    }
+
+    private static UnitOfWork open(EntityManager entityManager, boolean readOnly) {
+        UnitOfWork unit = new UnitOfWork(entityManager, readOnly);
+        CURRENT.set(unit);
+        return unit;
+    }
+
+    private void close() {
+        CURRENT.remove();
+        entityManager.close();
+    }
+    // #endregion Scopes
+
+    // #region DAO Integration
+    <R> R executeInTransaction(Function<EntityManager, R> action) {
+        try {
+            return join(action);
+        } catch (Exception e) {
+            throw new RuntimeException("Erro ao executar transação", e);
+        }
+    }
+
+    <R> R executeReadOnly(Function<EntityManager, R> action) {
+        try {
+            return action.apply(entityManager);
+        } catch (Exception e) {
+            throw new RuntimeException("Erro ao executar operação de leitura", e);
+        }
+    }
+
+    private <R> R join(Function<EntityManager, R> action) {
+        if (readOnly) {
+            throw new IllegalStateException("Escrita não permitida em uma unidade somente leitura");
+        }
+
+        EntityTransaction tx = entityManager.getTransaction();
+        if (tx.isActive()) {
+            try {
+                return action.apply(entityManager);
+            } catch (RuntimeException e) {
+                tx.setRollbackOnly();
+                throw e;
+            }
+        }
+
+        try {
+            tx.begin();
+            R result = action.apply(entityManager);
+            RetryPolicy.commit(tx);
+            ReadRouting.markWrite();
+            return result;
+        } catch (RuntimeException e) {
+            if (tx.isActive()) {
+                tx.rollback();
+            }
+            throw e;
+        }
+    }
+    // #endregion DAO Integration
+}
@@ -0,0 +1,60 @@
+package dao.game;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters of the {@link GameDAO} finder result cache: lookups served from
+ * the cache, lookups that went to the database, entries dropped by
+ * invalidation and results not stored because a write committed while they
+ * were being read.
+ */
+public class FinderCacheMetrics {
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+    private final LongAdder stalePuts = new LongAdder();
+
+    // #region Recording
+    void recordHit() {
+        hits.increment();
+    }
+
+    void recordMiss() {
+        misses.increment();
+    }
+
+    void recordInvalidations(int entries) {
+        invalidations.add(entries);
+    }
+
+    void recordStalePut() {
+        stalePuts.increment();
+    }
+    // #endregion Recording
+
+    // #region Reading
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /** Fraction of lookups served from the cache, or 0 before the first lookup. */
+    public double getHitRatio() {
+        long hitCount = getHits();
+        long total = hitCount + getMisses();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    public long getInvalidations() {
+        return invalidations.sum();
+    }
+
+    public long getStalePuts() {
+        return stalePuts.sum();
+    }
+    // #endregion Reading
+}
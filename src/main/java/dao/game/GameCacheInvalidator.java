@@ -0,0 +1,178 @@
+package dao.game;
+
+import dao.game.GameFinderCache.Finder;
+import model.common.Listable;
+import model.game.Developer;
+import model.game.Game;
+import model.game.GameDeveloper;
+import model.game.GameGenre;
+import model.game.GamePlatform;
+import model.game.Genre;
+import model.game.Platform;
+import org.hibernate.Hibernate;
+import org.hibernate.boot.Metadata;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.proxy.HibernateProxyHelper;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+
+/**
+ * Keeps {@link GameFinderCache} in step with committed writes to games, their
+ * genre/platform/developer links and the catalog entities themselves.
+ * Hibernate calls it only after the transaction commits, so a rolled-back
+ * write never evicts anything and a committed one is never missed, whichever
+ * service or DAO made it.
+ * <p>
+ * Registered through {@code META-INF/services/org.hibernate.integrator.spi.Integrator}.
+ */
+public class GameCacheInvalidator implements Integrator,
+        PostCommitInsertEventListener, PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+
+    // #region Integrator
+    @Override
+    public void integrate(Metadata metadata, SessionFactoryImplementor sessionFactory,
+            SessionFactoryServiceRegistry serviceRegistry) {
+        EventListenerRegistry registry = serviceRegistry.getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+    }
+
+    @Override
+    public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+    }
+    // #endregion Integrator
+
+    // #region Events
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        Class<?> type = persister.getMappedClass();
+        return type == Game.class
+                || type == GameGenre.class || type == GamePlatform.class || type == GameDeveloper.class
+                || type == Genre.class || type == Platform.class || type == Developer.class;
+    }
+
+    // Abstrato (com o erro de grafia) no Hibernate 5.6; só delega
+    @Deprecated
+    @Override
+    public boolean requiresPostCommitHanding(EntityPersister persister) {
+        return requiresPostCommitHandling(persister);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        Object entity = event.getEntity();
+        if (entity instanceof Game) {
+            invalidateGame((Game) entity, ((Game) entity).getRating());
+        } else {
+            invalidateLink(entity);
+        }
+        // Gênero/plataforma/desenvolvedor novos ainda não têm jogos
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        Object entity = event.getEntity();
+        if (entity instanceof Game) {
+            invalidateGame((Game) entity, ((Game) entity).getRating());
+        } else if (entity instanceof Listable) {
+            // Renomeado: as buscas pelo nome antigo e pelo novo mudam
+            String oldName = nameIn(event.getOldState(), event.getPersister());
+            invalidateCatalog(entity, oldName);
+            invalidateCatalog(entity, ((Listable) entity).getName());
+        } else {
+            invalidateLink(entity);
+        }
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        Object entity = event.getEntity();
+        if (entity instanceof Game) {
+            invalidateGame((Game) entity, null);
+        } else if (entity instanceof Listable) {
+            invalidateCatalog(entity, nameIn(event.getDeletedState(), event.getPersister()));
+        } else {
+            invalidateLink(entity);
+        }
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+    }
+    // #endregion Events
+
+    // #region Invalidation
+    private static void invalidateGame(Game game, Double rating) {
+        GameFinderCache cache = GameFinderCache.ifCreated();
+        if (cache != null) {
+            cache.invalidateGame(game.getId(), rating);
+        }
+    }
+
+    private static void invalidateLink(Object link) {
+        if (link instanceof GameGenre) {
+            invalidateCatalog(((GameGenre) link).getGenre());
+        } else if (link instanceof GamePlatform) {
+            invalidateCatalog(((GamePlatform) link).getPlatform());
+        } else if (link instanceof GameDeveloper) {
+            invalidateCatalog(((GameDeveloper) link).getDeveloper());
+        }
+    }
+
+    // Proxy não carregado: o nome é desconhecido e todas as buscas por nome do tipo caem
+    private static void invalidateCatalog(Object catalogEntity) {
+        if (catalogEntity != null) {
+            invalidateCatalog(catalogEntity,
+                    Hibernate.isInitialized(catalogEntity) ? ((Listable) catalogEntity).getName() : null);
+        }
+    }
+
+    private static void invalidateCatalog(Object catalogEntity, String name) {
+        GameFinderCache cache = GameFinderCache.ifCreated();
+        if (cache == null) {
+            return;
+        }
+        Listable listable = (Listable) catalogEntity;
+
+        Class<?> type = HibernateProxyHelper.getClassWithoutInitializingProxy(catalogEntity);
+        if (type == Genre.class) {
+            cache.invalidateAssociation(Finder.GENRE_ID, listable.getId(), Finder.GENRE_NAME, name);
+        } else if (type == Platform.class) {
+            cache.invalidateAssociation(Finder.PLATFORM_ID, listable.getId(), Finder.PLATFORM_NAME, name);
+        } else if (type == Developer.class) {
+            cache.invalidateAssociation(Finder.DEVELOPER_ID, listable.getId(), Finder.DEVELOPER_NAME, name);
+        }
+    }
+
+    private static String nameIn(Object[] state, EntityPersister persister) {
+        if (state == null) {
+            return null;
+        }
+        String[] properties = persister.getPropertyNames();
+        for (int i = 0; i < properties.length; i++) {
+            if (properties[i].equals("name")) {
+                return (String) state[i];
+            }
+        }
+        return null;
+    }
+    // #endregion Invalidation
+}
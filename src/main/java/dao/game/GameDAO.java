@@ -1,9 +1,21 @@
 package dao.game;
 
 import model.game.Game;
+import model.game.GameDeveloper;
+import model.game.GameGenre;
+import model.game.GamePlatform;
+import dao.AsyncExecutor;
+import dao.FetchPlan;
 import dao.GenericDAO;
+import dao.Page;
+import dao.game.GameFinderCache.Finder;
 import utils.MyLinkedList;
+import javax.persistence.EntityManager;
 import javax.persistence.TypedQuery;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.query.NativeQuery;
 
 public class GameDAO extends GenericDAO<Game> {
 
@@ -14,94 +26,253 @@ public class GameDAO extends GenericDAO<Game> {
     // #region Utility Methods
     public Game refreshAndClearAssociations(Game game) {
         return executeInTransaction(em -> {
+            em.flush(); // Força escrita pendente da unidade antes dos DELETEs nativos
 
-            em.createNativeQuery("DELETE FROM game_genres WHERE game_id = :id")
-                    .setParameter("id", game.getId()).executeUpdate();
-            em.createNativeQuery("DELETE FROM game_platforms WHERE game_id = :id")
-                    .setParameter("id", game.getId()).executeUpdate();
-            em.createNativeQuery("DELETE FROM game_developers WHERE game_id = :id")
-                    .setParameter("id", game.getId()).executeUpdate();
+            deleteLinks(em, "Game.deleteGenreLinks", GameGenre.class, game.getId());
+            deleteLinks(em, "Game.deletePlatformLinks", GamePlatform.class, game.getId());
+            deleteLinks(em, "Game.deleteDeveloperLinks", GameDeveloper.class, game.getId());
 
-            em.clear(); // Limpa primeiro nível cache
-            em.flush(); // Força escrita pendente
+            // Só o jogo (e, em cascata, seus vínculos apagados) sai do contexto; o resto da unidade segue gerenciado.
+            // getReference devolve a instância já gerenciada ou um proxy, sem SELECT
+            Game stale = em.getReference(Game.class, game.getId());
+            if (em.contains(stale)) {
+                em.detach(stale);
+            }
 
-            // Busca novo game sem associações
-            Game freshGame = em.find(Game.class, game.getId());
-            freshGame.getGameGenres().clear();
-            freshGame.getGamePlatforms().clear();
-            freshGame.getGameDevelopers().clear();
+            // Um SELECT: o jogo volta com as três coleções já inicializadas (vazias), sem carga ao adicionar vínculos
+            return em.createNamedQuery("Game.findWithLinks", Game.class)
+                    .setParameter("id", game.getId())
+                    .getSingleResult();
+        });
+    }
+
+    // Declara a tabela afetada: sem isso o Hibernate esvazia todo o cache de segundo nível
+    private static void deleteLinks(EntityManager em, String queryName, Class<?> linkType, Long gameId) {
+        NativeQuery<?> query = em.createNamedQuery(queryName).unwrap(NativeQuery.class);
+        query.addSynchronizedEntityClass(linkType);
+        query.setParameter("id", gameId);
+        query.executeUpdate();
 
-            return freshGame;
+        // DELETE nativo não gera eventos: as listas que contêm o jogo caem após o commit
+        em.unwrap(SessionImplementor.class).getActionQueue().registerProcess((success, session) -> {
+            GameFinderCache cache = GameFinderCache.ifCreated();
+            if (success && cache != null) {
+                cache.invalidateGame(gameId, null);
+            }
         });
     }
     // #endregion Utility Methods
 
+    // #region Finder Cache
+    /** Counters of the finder result cache (see {@link GameFinderCache}). */
+    public static FinderCacheMetrics getFinderCacheMetrics() {
+        return GameFinderCache.get().getMetrics();
+    }
+
+    public static int getFinderCacheSize() {
+        return GameFinderCache.get().size();
+    }
+    // #endregion Finder Cache
+
     // #region Exclusive Finders
     public MyLinkedList<Game> findByRatingGreaterThan(Double minRating) {
-        return executeInTransaction(em -> {
-            String jpql = "SELECT g FROM Game g WHERE g.rating >= :minRating ORDER BY g.rating DESC";
-            TypedQuery<Game> query = em.createQuery(jpql, Game.class);
+        return GameFinderCache.get().get(Finder.RATING, minRating, () -> executeReadOnly("findByRating", em -> {
+            TypedQuery<Game> query = em.createNamedQuery("Game.findByRatingGreaterThan", Game.class);
             query.setParameter("minRating", minRating);
             return MyLinkedList.fromJavaList(query.getResultList());
-        });
+        }));
     }
     // #endregion Exclusive Finders
 
     // #region Finders by RELATED ENTITY
     // Finders by Names
     public MyLinkedList<Game> findByGenreName(String genreName) {
-        return executeInTransaction(em -> {
-            String jpql = "SELECT DISTINCT g FROM Game g JOIN g.gameGenres gg JOIN gg.genre genre WHERE genre.name = :genreName";
-            TypedQuery<Game> query = em.createQuery(jpql, Game.class);
-            query.setParameter("genreName", genreName);
-            return MyLinkedList.fromJavaList(query.getResultList());
-        });
+        return GameFinderCache.get().get(Finder.GENRE_NAME, genreName,
+                () -> search(new GameQuery().genreName(genreName)));
     }
 
     public MyLinkedList<Game> findByPlatformName(String platformName) {
-        return executeInTransaction(em -> {
-            String jpql = "SELECT DISTINCT g FROM Game g JOIN g.gamePlatforms gp JOIN gp.platform platform WHERE platform.name = :platformName";
-            TypedQuery<Game> query = em.createQuery(jpql, Game.class);
-            query.setParameter("platformName", platformName);
-            return MyLinkedList.fromJavaList(query.getResultList());
-        });
+        return GameFinderCache.get().get(Finder.PLATFORM_NAME, platformName,
+                () -> search(new GameQuery().platformName(platformName)));
     }
 
     public MyLinkedList<Game> findByDeveloperName(String developerName) {
-        return executeInTransaction(em -> {
-            String jpql = "SELECT DISTINCT g FROM Game g JOIN g.gameDevelopers gd JOIN gd.developer developer WHERE developer.name = :developerName";
-            TypedQuery<Game> query = em.createQuery(jpql, Game.class);
-            query.setParameter("developerName", developerName);
-            return MyLinkedList.fromJavaList(query.getResultList());
-        });
+        return GameFinderCache.get().get(Finder.DEVELOPER_NAME, developerName,
+                () -> search(new GameQuery().developerName(developerName)));
     }
 
     // Finders by IDs
     public MyLinkedList<Game> findByGenreId(Long genreId) {
-        return executeInTransaction(em -> {
-            String jpql = "SELECT DISTINCT g FROM Game g JOIN g.gameGenres gg JOIN gg.genre genre WHERE genre.id = :genreId";
-            TypedQuery<Game> query = em.createQuery(jpql, Game.class);
-            query.setParameter("genreId", genreId);
-            return MyLinkedList.fromJavaList(query.getResultList());
-        });
+        return GameFinderCache.get().get(Finder.GENRE_ID, genreId,
+                () -> search(new GameQuery().genreId(genreId)));
     }
 
     public MyLinkedList<Game> findByPlatformId(Long platformId) {
-        return executeInTransaction(em -> {
-            String jpql = "SELECT DISTINCT g FROM Game g JOIN g.gamePlatforms gp JOIN gp.platform platform WHERE platform.id = :platformId";
-            TypedQuery<Game> query = em.createQuery(jpql, Game.class);
-            query.setParameter("platformId", platformId);
-            return MyLinkedList.fromJavaList(query.getResultList());
-        });
+        return GameFinderCache.get().get(Finder.PLATFORM_ID, platformId,
+                () -> search(new GameQuery().platformId(platformId)));
     }
 
     public MyLinkedList<Game> findByDeveloperId(Long developerId) {
-        return executeInTransaction(em -> {
-            String jpql = "SELECT DISTINCT g FROM Game g JOIN g.gameDevelopers gd JOIN gd.developer developer WHERE developer.id = :developerId";
-            TypedQuery<Game> query = em.createQuery(jpql, Game.class);
-            query.setParameter("developerId", developerId);
-            return MyLinkedList.fromJavaList(query.getResultList());
-        });
+        return GameFinderCache.get().get(Finder.DEVELOPER_ID, developerId,
+                () -> search(new GameQuery().developerId(developerId)));
     }
     // #endregion Finders by RELATED ENTITY
+
+    // #region Search
+    /**
+     * Games matching every criterion of {@code spec}, ordered by ID, in one
+     * query (IDs first, then the entities; see {@code findByIdQuery}).
+     */
+    public MyLinkedList<Game> search(GameQuery spec) {
+        return executeReadOnly("search", em -> {
+            TypedQuery<Long> ids = shapedQuery(em, "searchIds" + spec.shape(),
+                    () -> "SELECT g.id FROM Game g" + spec.where() + " ORDER BY g.id",
+                    Long.class);
+            spec.bind(ids);
+            return findByIdQuery(em, ids);
+        });
+    }
+
+    /** Keyset page of {@link #search(GameQuery)}. */
+    public Page<Game> search(GameQuery spec, Long afterId, int limit, FetchPlan plan) {
+        return executeReadOnly("search", em -> {
+            TypedQuery<Game> query = shapedQuery(em, "searchPage" + spec.shape(),
+                    () -> "SELECT g FROM Game g" + spec.where("g.id > :afterId") + " ORDER BY g.id",
+                    Game.class);
+            spec.bind(query);
+            Page<Game> page = fetchPage(query, afterId, limit);
+            applyFetchPlan(em, page.getItems(), plan);
+            return page;
+        });
+    }
+    // #endregion Search
+
+    // #region Paged Finders
+    /**
+     * Keyset page ordered by rating (highest first), ties broken by ID. Pass
+     * the rating and ID of the previous page's last game, or {@code null}s for
+     * the first page.
+     */
+    public Page<Game> findByRatingGreaterThan(Double minRating, Double afterRating, Long afterId, int limit) {
+        return executeReadOnly("findByRating", em -> {
+            if (afterRating == null) {
+                TypedQuery<Game> query = em.createNamedQuery("Game.pageByRatingFirst", Game.class);
+                query.setParameter("minRating", minRating);
+                return fetchPage(query, null, limit);
+            }
+            TypedQuery<Game> query = em.createNamedQuery("Game.pageByRatingAfter", Game.class);
+            query.setParameter("minRating", minRating);
+            query.setParameter("afterRating", afterRating);
+            return fetchPage(query, afterId, limit);
+        });
+    }
+
+    public Page<Game> findByGenreName(String genreName, Long afterId, int limit) {
+        return findPageByAssociation(
+                "Game.pageByGenreName",
+                genreName, afterId, limit);
+    }
+
+    public Page<Game> findByPlatformName(String platformName, Long afterId, int limit) {
+        return findPageByAssociation(
+                "Game.pageByPlatformName",
+                platformName, afterId, limit);
+    }
+
+    public Page<Game> findByDeveloperName(String developerName, Long afterId, int limit) {
+        return findPageByAssociation(
+                "Game.pageByDeveloperName",
+                developerName, afterId, limit);
+    }
+
+    public Page<Game> findByGenreId(Long genreId, Long afterId, int limit) {
+        return findByGenreId(genreId, afterId, limit, FetchPlan.NONE);
+    }
+
+    public Page<Game> findByGenreId(Long genreId, Long afterId, int limit, FetchPlan plan) {
+        return findPageByAssociation(
+                "Game.pageByGenreId",
+                genreId, afterId, limit, plan);
+    }
+
+    public Page<Game> findByPlatformId(Long platformId, Long afterId, int limit) {
+        return findByPlatformId(platformId, afterId, limit, FetchPlan.NONE);
+    }
+
+    public Page<Game> findByPlatformId(Long platformId, Long afterId, int limit, FetchPlan plan) {
+        return findPageByAssociation(
+                "Game.pageByPlatformId",
+                platformId, afterId, limit, plan);
+    }
+
+    public Page<Game> findByDeveloperId(Long developerId, Long afterId, int limit) {
+        return findByDeveloperId(developerId, afterId, limit, FetchPlan.NONE);
+    }
+
+    public Page<Game> findByDeveloperId(Long developerId, Long afterId, int limit, FetchPlan plan) {
+        return findPageByAssociation(
+                "Game.pageByDeveloperId",
+                developerId, afterId, limit, plan);
+    }
+
+    private Page<Game> findPageByAssociation(String queryName, Object value, Long afterId, int limit) {
+        return findPageByAssociation(queryName, value, afterId, limit, FetchPlan.NONE);
+    }
+
+    // EXISTS em vez de JOIN + DISTINCT: sem duplicatas para ordenar/eliminar
+    private Page<Game> findPageByAssociation(String queryName, Object value, Long afterId, int limit,
+            FetchPlan plan) {
+        return executeReadOnly("findByAssociation", em -> {
+            TypedQuery<Game> query = em.createNamedQuery(queryName, Game.class);
+            query.setParameter("value", value);
+            Page<Game> page = fetchPage(query, afterId, limit);
+            applyFetchPlan(em, page.getItems(), plan);
+            return page;
+        });
+    }
+    // #endregion Paged Finders
+
+    // #region Async Finders
+    public CompletableFuture<MyLinkedList<Game>> findByRatingGreaterThanAsync(Double minRating) {
+        return AsyncExecutor.supply(() -> findByRatingGreaterThan(minRating));
+    }
+
+    public CompletableFuture<MyLinkedList<Game>> findByGenreNameAsync(String genreName) {
+        return AsyncExecutor.supply(() -> findByGenreName(genreName));
+    }
+
+    public CompletableFuture<MyLinkedList<Game>> findByPlatformNameAsync(String platformName) {
+        return AsyncExecutor.supply(() -> findByPlatformName(platformName));
+    }
+
+    public CompletableFuture<MyLinkedList<Game>> findByDeveloperNameAsync(String developerName) {
+        return AsyncExecutor.supply(() -> findByDeveloperName(developerName));
+    }
+
+    public CompletableFuture<MyLinkedList<Game>> findByGenreIdAsync(Long genreId) {
+        return AsyncExecutor.supply(() -> findByGenreId(genreId));
+    }
+
+    public CompletableFuture<MyLinkedList<Game>> findByPlatformIdAsync(Long platformId) {
+        return AsyncExecutor.supply(() -> findByPlatformId(platformId));
+    }
+
+    public CompletableFuture<MyLinkedList<Game>> findByDeveloperIdAsync(Long developerId) {
+        return AsyncExecutor.supply(() -> findByDeveloperId(developerId));
+    }
+    // #endregion Async Finders
+
+    // #region Streaming Finders
+    public void forEachByGenreIdStreaming(Long genreId, Consumer<? super Game> action) {
+        streamQuery(em -> em.createNamedQuery("Game.streamByGenreId", Game.class)
+                .setParameter("genreId", genreId),
+                action);
+    }
+
+    public void forEachByRatingGreaterThanStreaming(Double minRating, Consumer<? super Game> action) {
+        streamQuery(em -> em.createNamedQuery("Game.streamByRatingGreaterThan", Game.class)
+                .setParameter("minRating", minRating),
+                action);
+    }
+    // #endregion Streaming Finders
 }
@@ -0,0 +1,222 @@
+package dao.game;
+
+import dao.GenericDAO;
+import dao.UnitOfWork;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import model.game.Game;
+import utils.MyLinkedList;
+
+/**
+ * Results of the non-paged {@link GameDAO} finders, keyed by finder and
+ * argument. Entries are dropped by {@link GameCacheInvalidator} after a
+ * commit touches them: an entry goes when one of its games changes, when a
+ * game starts to match it (new link to its genre/platform/developer, rating
+ * raised above its minimum) or when its genre/platform/developer is renamed
+ * or deleted. Entries also expire after {@code dgm.gameCache.ttlMs}, which
+ * bounds staleness from writes this process does not see (replica lag, other
+ * clients).
+ * <p>
+ * Cached games are detached instances shared by every caller that hits the
+ * entry; callers get their own list but must not modify the games.
+ */
+final class GameFinderCache {
+
+    enum Finder {
+        RATING, GENRE_ID, GENRE_NAME, PLATFORM_ID, PLATFORM_NAME, DEVELOPER_ID, DEVELOPER_NAME
+    }
+
+    private static volatile GameFinderCache instance;
+
+    private final boolean enabled;
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final FinderCacheMetrics metrics = new FinderCacheMetrics();
+
+    // Ordem de acesso: o primeiro é o menos usado recentemente
+    private final Map<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long generation;
+
+    private GameFinderCache(boolean enabled, int maxEntries, long ttlMillis) {
+        this.enabled = enabled;
+        this.maxEntries = maxEntries;
+        this.ttlNanos = ttlMillis * 1_000_000;
+    }
+
+    static GameFinderCache get() {
+        GameFinderCache cache = instance;
+        if (cache == null) {
+            synchronized (GameFinderCache.class) {
+                if (instance == null) {
+                    instance = new GameFinderCache(
+                            Boolean.parseBoolean(GenericDAO.getSetting("dgm.gameCache.enabled", "true")),
+                            Integer.parseInt(GenericDAO.getSetting("dgm.gameCache.maxEntries", "500")),
+                            Long.parseLong(GenericDAO.getSetting("dgm.gameCache.ttlMs", "60000")));
+                }
+                cache = instance;
+            }
+        }
+        return cache;
+    }
+
+    /** The cache if some finder already created it; invalidation has nothing to do otherwise. */
+    static GameFinderCache ifCreated() {
+        return instance;
+    }
+
+    FinderCacheMetrics getMetrics() {
+        return metrics;
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    // #region Lookup
+    /**
+     * Cached result of {@code finder(value)}, loading it with {@code loader}
+     * on a miss. Inside a writing unit of work the cache is bypassed: the
+     * unit sees its own uncommitted changes, which must not be cached.
+     */
+    MyLinkedList<Game> get(Finder finder, Object value, Supplier<MyLinkedList<Game>> loader) {
+        if (!enabled || UnitOfWork.isWriting()) {
+            return loader.get();
+        }
+
+        Key key = new Key(finder, value);
+        long observedGeneration;
+        synchronized (this) {
+            Entry entry = entries.get(key);
+            if (entry != null && System.nanoTime() - entry.createdNanos < ttlNanos) {
+                metrics.recordHit();
+                return MyLinkedList.fromJavaList(entry.games);
+            }
+            if (entry != null) {
+                entries.remove(key);
+            }
+            observedGeneration = generation;
+        }
+
+        metrics.recordMiss();
+        MyLinkedList<Game> loaded = loader.get();
+        List<Game> games = new ArrayList<>(loaded.size());
+        loaded.forEach(games::add);
+        put(key, games, observedGeneration);
+        return loaded;
+    }
+
+    // Uma invalidação durante a leitura pode ter chegado antes do resultado: não guarda
+    private synchronized void put(Key key, List<Game> games, long observedGeneration) {
+        if (generation != observedGeneration) {
+            metrics.recordStalePut();
+            return;
+        }
+        entries.put(key, new Entry(Collections.unmodifiableList(games), System.nanoTime()));
+        Iterator<Map.Entry<Key, Entry>> eldest = entries.entrySet().iterator();
+        while (entries.size() > maxEntries && eldest.hasNext()) {
+            eldest.next();
+            eldest.remove();
+        }
+    }
+    // #endregion Lookup
+
+    // #region Invalidation
+    /**
+     * A game was inserted, updated or deleted: drops the entries listing it
+     * and the rating entries it now qualifies for.
+     */
+    void invalidateGame(Long gameId, Double rating) {
+        invalidate(key -> key.finder == Finder.RATING && rating != null
+                && key.value instanceof Double && (Double) key.value <= rating,
+                entry -> entry.contains(gameId));
+    }
+
+    /** A game was linked to, or a catalog entity was renamed or deleted. */
+    void invalidateAssociation(Finder byId, Long id, Finder byName, String name) {
+        invalidate(key -> (key.finder == byId && Objects.equals(key.value, id))
+                || (key.finder == byName && sameName(key.value, name)),
+                entry -> false);
+    }
+
+    void clear() {
+        invalidate(key -> true, entry -> true);
+    }
+
+    private synchronized void invalidate(Predicate<Key> keyMatches, Predicate<Entry> entryMatches) {
+        generation++;
+        if (entries.isEmpty()) {
+            return;
+        }
+        int removed = 0;
+        for (Iterator<Map.Entry<Key, Entry>> it = entries.entrySet().iterator(); it.hasNext(); ) {
+            Map.Entry<Key, Entry> candidate = it.next();
+            if (keyMatches.test(candidate.getKey()) || entryMatches.test(candidate.getValue())) {
+                it.remove();
+                removed++;
+            }
+        }
+        metrics.recordInvalidations(removed);
+    }
+
+    // A comparação no banco ignora maiúsculas e espaços à direita (collation do MySQL);
+    // nome desconhecido (null) invalida todas as entradas do finder
+    private static boolean sameName(Object cached, String name) {
+        if (name == null) {
+            return true;
+        }
+        return cached instanceof String && ((String) cached).stripTrailing().equalsIgnoreCase(name.stripTrailing());
+    }
+    // #endregion Invalidation
+
+    private static final class Key {
+
+        final Finder finder;
+        final Object value;
+
+        Key(Finder finder, Object value) {
+            this.finder = finder;
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) other;
+            return finder == key.finder && Objects.equals(value, key.value);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * finder.hashCode() + Objects.hashCode(value);
+        }
+    }
+
+    private static final class Entry {
+
+        final List<Game> games;
+        final long createdNanos;
+
+        Entry(List<Game> games, long createdNanos) {
+            this.games = games;
+            this.createdNanos = createdNanos;
+        }
+
+        boolean contains(Long gameId) {
+            for (Game game : games) {
+                if (game.getId().equals(gameId)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package dao.game;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.StringJoiner;
+import javax.persistence.TypedQuery;
+
+/**
+ * Game search specification: every criterion set is ANDed into one query,
+ * so "RPG on PC by studio X rated at least 8" is a single round trip.
+ * Setting a criterion to {@code null} removes it, and an empty query matches
+ * every game.
+ * <p>
+ * The JPQL depends only on which criteria are set (the query's shape), not
+ * on their values, so {@link GameDAO#search} compiles each shape once and
+ * reuses it. Not thread-safe; build one per search.
+ */
+public final class GameQuery {
+
+    // Ordem fixa: a mesma combinação de critérios gera sempre o mesmo JPQL
+    enum Criterion {
+        GENRE_ID("genreId", "EXISTS (SELECT 1 FROM GameGenre gg WHERE gg.game = g AND gg.genre.id = :genreId)"),
+        GENRE_NAME("genreName", "EXISTS (SELECT 1 FROM GameGenre gg WHERE gg.game = g AND gg.genre.name = :genreName)"),
+        PLATFORM_ID("platformId",
+                "EXISTS (SELECT 1 FROM GamePlatform gp WHERE gp.game = g AND gp.platform.id = :platformId)"),
+        PLATFORM_NAME("platformName",
+                "EXISTS (SELECT 1 FROM GamePlatform gp WHERE gp.game = g AND gp.platform.name = :platformName)"),
+        DEVELOPER_ID("developerId",
+                "EXISTS (SELECT 1 FROM GameDeveloper gd WHERE gd.game = g AND gd.developer.id = :developerId)"),
+        DEVELOPER_NAME("developerName",
+                "EXISTS (SELECT 1 FROM GameDeveloper gd WHERE gd.game = g AND gd.developer.name = :developerName)"),
+        MIN_RATING("minRating", "g.rating >= :minRating"),
+        NAME_CONTAINING("nameTerm", "LOWER(g.name) LIKE LOWER(:nameTerm)");
+
+        private final String parameter;
+        private final String condition;
+
+        Criterion(String parameter, String condition) {
+            this.parameter = parameter;
+            this.condition = condition;
+        }
+    }
+
+    private final Map<Criterion, Object> values = new EnumMap<>(Criterion.class);
+
+    // #region Criteria
+    public GameQuery genreId(Long genreId) {
+        return with(Criterion.GENRE_ID, genreId);
+    }
+
+    public GameQuery genreName(String genreName) {
+        return with(Criterion.GENRE_NAME, genreName);
+    }
+
+    public GameQuery platformId(Long platformId) {
+        return with(Criterion.PLATFORM_ID, platformId);
+    }
+
+    public GameQuery platformName(String platformName) {
+        return with(Criterion.PLATFORM_NAME, platformName);
+    }
+
+    public GameQuery developerId(Long developerId) {
+        return with(Criterion.DEVELOPER_ID, developerId);
+    }
+
+    public GameQuery developerName(String developerName) {
+        return with(Criterion.DEVELOPER_NAME, developerName);
+    }
+
+    public GameQuery minRating(Double minRating) {
+        return with(Criterion.MIN_RATING, minRating);
+    }
+
+    /** Case-insensitive substring of the game name. */
+    public GameQuery nameContaining(String term) {
+        return with(Criterion.NAME_CONTAINING, term == null ? null : "%" + term + "%");
+    }
+
+    private GameQuery with(Criterion criterion, Object value) {
+        if (value == null) {
+            values.remove(criterion);
+        } else {
+            values.put(criterion, value);
+        }
+        return this;
+    }
+
+    public boolean isEmpty() {
+        return values.isEmpty();
+    }
+    // #endregion Criteria
+
+    // #region Query Building
+    /** Identifies the JPQL shape: the set criteria, in declaration order. */
+    String shape() {
+        StringJoiner shape = new StringJoiner(",", "[", "]");
+        values.keySet().forEach(criterion -> shape.add(criterion.name()));
+        return shape.toString();
+    }
+
+    /**
+     * WHERE clause ANDing {@code required} with the conditions of the set
+     * criteria; empty when there is nothing to filter.
+     */
+    String where(String... required) {
+        StringJoiner where = new StringJoiner(" AND ", " WHERE ", "").setEmptyValue("");
+        for (String condition : required) {
+            where.add(condition);
+        }
+        values.keySet().forEach(criterion -> where.add(criterion.condition));
+        return where.toString();
+    }
+
+    void bind(TypedQuery<?> query) {
+        values.forEach((criterion, value) -> query.setParameter(criterion.parameter, value));
+    }
+    // #endregion Query Building
+
+    @Override
+    public String toString() {
+        return "GameQuery" + values;
+    }
+}
@@ -0,0 +1,130 @@
+package dao.pool;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+/**
+ * JDBC proxies that feed {@link StatementStats}: the connection hands out
+ * statements that time every {@code execute*} call (also counted by any open
+ * {@link QueryGuard}), and their result sets count the rows read.
+ */
+final class InstrumentedConnection {
+
+    private InstrumentedConnection() {
+    }
+
+    static Connection wrap(Connection connection, StatementStats stats) {
+        return proxy(Connection.class, new Handler(connection) {
+            @Override
+            Object afterCall(Method method, Object[] args, Object result) {
+                if (result instanceof Statement) {
+                    String sql = args != null && args.length > 0 && args[0] instanceof String ? (String) args[0] : null;
+                    return wrapStatement((Statement) result, sql, stats);
+                }
+                return result;
+            }
+        });
+    }
+
+    private static Statement wrapStatement(Statement statement, String preparedSql, StatementStats stats) {
+        Class<? extends Statement> type = statement instanceof CallableStatement ? CallableStatement.class
+                : statement instanceof PreparedStatement ? PreparedStatement.class
+                : Statement.class;
+
+        return proxy(type, new Handler(statement) {
+            private StatementStats.Shape lastShape;
+
+            @Override
+            Object call(Method method, Object[] args) throws Throwable {
+                if (!method.getName().startsWith("execute")) {
+                    return super.call(method, args);
+                }
+
+                // Statement simples recebe o SQL na execução; PreparedStatement, no prepare
+                String sql = args != null && args.length > 0 && args[0] instanceof String ? (String) args[0] : preparedSql;
+                StatementStats.Shape shape = stats.shape(sql);
+                lastShape = shape;
+
+                long start = System.nanoTime();
+                Object result = super.call(method, args);
+                shape.recordExecution(System.nanoTime() - start);
+                QueryGuard.record(sql == null ? StatementStats.OTHER_SHAPES : sql);
+
+                if (result instanceof Integer || result instanceof Long) {
+                    shape.recordRows(Math.max(0L, ((Number) result).longValue()));
+                } else if (result instanceof int[]) {
+                    for (int count : (int[]) result) {
+                        shape.recordRows(Math.max(0, count));
+                    }
+                }
+                return result;
+            }
+
+            @Override
+            Object afterCall(Method method, Object[] args, Object result) {
+                // Chaves geradas de um INSERT não contam como linhas lidas
+                if (result instanceof ResultSet && lastShape != null && !method.getName().equals("getGeneratedKeys")) {
+                    return wrapResultSet((ResultSet) result, lastShape);
+                }
+                return result;
+            }
+        });
+    }
+
+    private static ResultSet wrapResultSet(ResultSet resultSet, StatementStats.Shape shape) {
+        return proxy(ResultSet.class, new Handler(resultSet) {
+            @Override
+            Object afterCall(Method method, Object[] args, Object result) {
+                if (Boolean.TRUE.equals(result) && method.getName().equals("next")) {
+                    shape.recordRows(1);
+                }
+                return result;
+            }
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(InstrumentedConnection.class.getClassLoader(), new Class<?>[] { type }, handler);
+    }
+
+    /** Delegates to the wrapped JDBC object; proxies compare by identity. */
+    private static class Handler implements InvocationHandler {
+        private final Object target;
+
+        Handler(Object target) {
+            this.target = target;
+        }
+
+        @Override
+        public final Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    return afterCall(method, args, call(method, args));
+            }
+        }
+
+        Object call(Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+
+        Object afterCall(Method method, Object[] args, Object result) {
+            return result;
+        }
+    }
+}
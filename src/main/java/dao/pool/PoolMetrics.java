@@ -0,0 +1,97 @@
+package dao.pool;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Live metrics of the connection pool: connection counts come from the pool
+ * itself, acquire (wait) times and timeouts are recorded on every checkout.
+ */
+public class PoolMetrics implements MetricsTrackerFactory {
+
+    private final LongAdder acquireCount = new LongAdder();
+    private final LongAdder acquireTotalNanos = new LongAdder();
+    private final LongAccumulator acquireMaxNanos = new LongAccumulator(Long::max, 0L);
+    private final LongAdder usageTotalMillis = new LongAdder();
+    private final LongAdder timeoutCount = new LongAdder();
+
+    private volatile PoolStats poolStats;
+
+    // #region Hikari Integration
+    @Override
+    public IMetricsTracker create(String poolName, PoolStats poolStats) {
+        this.poolStats = poolStats;
+        return new IMetricsTracker() {
+            @Override
+            public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+                acquireCount.increment();
+                acquireTotalNanos.add(elapsedAcquiredNanos);
+                acquireMaxNanos.accumulate(elapsedAcquiredNanos);
+            }
+
+            @Override
+            public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+                usageTotalMillis.add(elapsedBorrowedMillis);
+            }
+
+            @Override
+            public void recordConnectionTimeout() {
+                timeoutCount.increment();
+            }
+        };
+    }
+    // #endregion Hikari Integration
+
+    // #region Connection Counts
+    public int getActiveConnections() {
+        return poolStats == null ? 0 : poolStats.getActiveConnections();
+    }
+
+    public int getIdleConnections() {
+        return poolStats == null ? 0 : poolStats.getIdleConnections();
+    }
+
+    public int getTotalConnections() {
+        return poolStats == null ? 0 : poolStats.getTotalConnections();
+    }
+
+    public int getPendingThreads() {
+        return poolStats == null ? 0 : poolStats.getPendingThreads();
+    }
+    // #endregion Connection Counts
+
+    // #region Wait Times
+    public long getAcquireCount() {
+        return acquireCount.sum();
+    }
+
+    public double getAverageWaitMillis() {
+        long count = acquireCount.sum();
+        return count == 0 ? 0.0 : acquireTotalNanos.sum() / (count * 1_000_000.0);
+    }
+
+    public double getMaxWaitMillis() {
+        return acquireMaxNanos.get() / 1_000_000.0;
+    }
+
+    public double getAverageUsageMillis() {
+        long count = acquireCount.sum();
+        return count == 0 ? 0.0 : (double) usageTotalMillis.sum() / count;
+    }
+
+    public long getTimeoutCount() {
+        return timeoutCount.sum();
+    }
+    // #endregion Wait Times
+
+    @Override
+    public String toString() {
+        return String.format(
+                "active=%d idle=%d total=%d pending=%d | acquires=%d avgWait=%.3fms maxWait=%.3fms timeouts=%d",
+                getActiveConnections(), getIdleConnections(), getTotalConnections(), getPendingThreads(),
+                getAcquireCount(), getAverageWaitMillis(), getMaxWaitMillis(), getTimeoutCount());
+    }
+}
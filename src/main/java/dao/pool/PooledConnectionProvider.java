@@ -0,0 +1,240 @@
+package dao.pool;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.service.spi.Configurable;
+import org.hibernate.service.spi.Stoppable;
+
+/**
+ * Hibernate connection provider backed by a HikariCP pool.
+ * <p>
+ * JDBC url, user and password come from the persistence unit; the pool itself
+ * is tuned through the {@code dgm.pool.*} properties, which can be overridden
+ * with JVM system properties of the same name.
+ * <p>
+ * When {@code dgm.replicas.urls} lists read replicas, each gets its own pool
+ * and checkouts are routed: read-only work ({@link ReadRouting}) goes to a
+ * replica chosen by {@code dgm.replicas.policy}, everything else to the
+ * primary. For {@code dgm.replicas.readYourWritesMs} after a thread commits a
+ * write its reads stay on the primary, so it sees its own changes despite
+ * replication lag.
+ * <p>
+ * With {@code dgm.sql.stats} on (the default) every connection handed out is
+ * instrumented and feeds {@link #getStatementStats()}.
+ */
+public class PooledConnectionProvider implements ConnectionProvider, Configurable, Stoppable {
+
+    public static final String MIN_IDLE = "dgm.pool.minIdle";
+    public static final String MAX_SIZE = "dgm.pool.maxSize";
+    public static final String CONNECTION_TIMEOUT_MS = "dgm.pool.connectionTimeoutMs";
+    public static final String LEAK_DETECTION_MS = "dgm.pool.leakDetectionMs";
+    public static final String PREP_STMT_CACHE_SIZE = "dgm.pool.prepStmtCacheSize";
+    public static final String PREP_STMT_CACHE_SQL_LIMIT = "dgm.pool.prepStmtCacheSqlLimit";
+
+    public static final String REPLICA_URLS = "dgm.replicas.urls";
+    public static final String REPLICA_USER = "dgm.replicas.user";
+    public static final String REPLICA_PASSWORD = "dgm.replicas.password";
+    public static final String REPLICA_POLICY = "dgm.replicas.policy";
+    public static final String READ_YOUR_WRITES_MS = "dgm.replicas.readYourWritesMs";
+
+    public static final String SQL_STATS = "dgm.sql.stats";
+    public static final String SQL_STATS_MAX_SHAPES = "dgm.sql.stats.maxShapes";
+
+    private final PoolMetrics metrics = new PoolMetrics();
+    private final List<PoolMetrics> replicaMetrics = new ArrayList<>();
+    private final List<HikariDataSource> replicas = new ArrayList<>();
+    private final AtomicInteger replicaTick = new AtomicInteger();
+    private HikariDataSource dataSource;
+    private ReplicaPolicy replicaPolicy = ReplicaPolicy.ROUND_ROBIN;
+    private long readYourWritesMs;
+    private StatementStats statementStats;
+
+    // #region Configuration
+    @Override
+    @SuppressWarnings("rawtypes") // assinatura do SPI do Hibernate
+    public void configure(Map configurationValues) {
+        Map<?, ?> values = configurationValues;
+        String user = setting(values, "hibernate.connection.username", "javax.persistence.jdbc.user", null);
+        String password = setting(values, "hibernate.connection.password", "javax.persistence.jdbc.password", null);
+
+        HikariConfig config = poolConfig(values, "dgm-pool",
+                setting(values, "hibernate.connection.url", "javax.persistence.jdbc.url", null),
+                user, password);
+        config.setMetricsTrackerFactory(metrics);
+        this.dataSource = new HikariDataSource(config);
+
+        configureReplicas(values, user, password);
+
+        if (Boolean.parseBoolean(setting(values, SQL_STATS, null, "true").trim())) {
+            statementStats = new StatementStats(intSetting(values, SQL_STATS_MAX_SHAPES, 500));
+            QueryGuard.enableInstrumentation();
+        }
+    }
+
+    private void configureReplicas(Map<?, ?> values, String primaryUser, String primaryPassword) {
+        String urls = setting(values, REPLICA_URLS, null, "");
+        String user = setting(values, REPLICA_USER, null, primaryUser);
+        String password = setting(values, REPLICA_PASSWORD, null, primaryPassword);
+
+        for (String url : urls.split(",")) {
+            if (url.trim().isEmpty()) {
+                continue;
+            }
+            HikariConfig config = poolConfig(values, "dgm-replica-" + (replicas.size() + 1), url.trim(), user, password);
+            config.setReadOnly(true);
+            PoolMetrics replicaPoolMetrics = new PoolMetrics();
+            config.setMetricsTrackerFactory(replicaPoolMetrics);
+            replicas.add(new HikariDataSource(config));
+            replicaMetrics.add(replicaPoolMetrics);
+        }
+
+        replicaPolicy = ReplicaPolicy.valueOf(setting(values, REPLICA_POLICY, null, "ROUND_ROBIN").trim().toUpperCase());
+        readYourWritesMs = intSetting(values, READ_YOUR_WRITES_MS, 0);
+    }
+
+    private static HikariConfig poolConfig(Map<?, ?> configurationValues, String poolName, String url,
+            String user, String password) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName(poolName);
+        config.setJdbcUrl(url);
+        config.setUsername(user);
+        config.setPassword(password);
+
+        String driver = setting(configurationValues, "hibernate.connection.driver_class", "javax.persistence.jdbc.driver", null);
+        if (driver != null) {
+            config.setDriverClassName(driver);
+        }
+
+        config.setMinimumIdle(intSetting(configurationValues, MIN_IDLE, 2));
+        config.setMaximumPoolSize(intSetting(configurationValues, MAX_SIZE, 10));
+        config.setConnectionTimeout(intSetting(configurationValues, CONNECTION_TIMEOUT_MS, 30_000));
+        config.setLeakDetectionThreshold(intSetting(configurationValues, LEAK_DETECTION_MS, 20_000));
+        config.setExceptionOverrideClassName(StatementTimeoutOverride.class.getName());
+
+        if (url != null && url.startsWith("jdbc:mysql:")) {
+            addMySqlProperties(config, configurationValues);
+        }
+        return config;
+    }
+
+    // Propriedades do MySQL Connector/J; outros drivers não as reconhecem
+    private static void addMySqlProperties(HikariConfig config, Map<?, ?> configurationValues) {
+        // Cache de prepared statements no driver
+        config.addDataSourceProperty("cachePrepStmts", "true");
+        config.addDataSourceProperty("useServerPrepStmts", "true");
+        config.addDataSourceProperty("prepStmtCacheSize", String.valueOf(intSetting(configurationValues, PREP_STMT_CACHE_SIZE, 250)));
+        config.addDataSourceProperty("prepStmtCacheSqlLimit", String.valueOf(intSetting(configurationValues, PREP_STMT_CACHE_SQL_LIMIT, 2048)));
+
+        // Reescreve lotes de INSERT/UPDATE em um único comando multi-valor
+        config.addDataSourceProperty("rewriteBatchedStatements", "true");
+
+        // Respeita o fetch size com cursor no servidor em vez de carregar tudo
+        config.addDataSourceProperty("useCursorFetch", "true");
+    }
+
+    private static String setting(Map<?, ?> values, String key, String fallbackKey, String defaultValue) {
+        String fromSystem = System.getProperty(key);
+        if (fromSystem != null) {
+            return fromSystem;
+        }
+        Object value = values.get(key);
+        if (value == null && fallbackKey != null) {
+            value = values.get(fallbackKey);
+        }
+        return value == null ? defaultValue : value.toString();
+    }
+
+    private static int intSetting(Map<?, ?> values, String key, int defaultValue) {
+        String value = setting(values, key, null, null);
+        return value == null ? defaultValue : Integer.parseInt(value.trim());
+    }
+    // #endregion Configuration
+
+    // #region ConnectionProvider
+    @Override
+    public Connection getConnection() throws SQLException {
+        Connection connection = route();
+        return statementStats == null ? connection : InstrumentedConnection.wrap(connection, statementStats);
+    }
+
+    private Connection route() throws SQLException {
+        if (replicas.isEmpty() || !ReadRouting.isReadOnly() || ReadRouting.wroteWithin(readYourWritesMs)) {
+            return dataSource.getConnection();
+        }
+
+        HikariDataSource replica = replicaPolicy.select(replicas, replicaTick.getAndIncrement());
+        try {
+            return replica.getConnection();
+        } catch (SQLException e) {
+            // Réplica indisponível (já contado nas métricas dela): a leitura segue no primário
+            return dataSource.getConnection();
+        }
+    }
+
+    @Override
+    public void closeConnection(Connection conn) throws SQLException {
+        conn.close();
+    }
+
+    @Override
+    public boolean supportsAggressiveRelease() {
+        return false;
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes") // assinatura do SPI do Hibernate
+    public boolean isUnwrappableAs(Class unwrapType) {
+        Class<?> type = unwrapType;
+        return type.isAssignableFrom(getClass())
+                || type.isAssignableFrom(HikariDataSource.class);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T unwrap(Class<T> unwrapType) {
+        if (unwrapType.isAssignableFrom(getClass())) {
+            return (T) this;
+        }
+        if (unwrapType.isAssignableFrom(HikariDataSource.class)) {
+            return (T) dataSource;
+        }
+        throw new IllegalArgumentException("Tipo não suportado: " + unwrapType);
+    }
+
+    @Override
+    public void stop() {
+        for (HikariDataSource replica : replicas) {
+            replica.close();
+        }
+        if (dataSource != null) {
+            dataSource.close();
+        }
+    }
+    // #endregion ConnectionProvider
+
+    public PoolMetrics getMetrics() {
+        return metrics;
+    }
+
+    public int getMaxPoolSize() {
+        return dataSource.getMaximumPoolSize();
+    }
+
+    /** Per-statement counters, or {@code null} when {@code dgm.sql.stats} is off. */
+    public StatementStats getStatementStats() {
+        return statementStats;
+    }
+
+    /** Metrics of each replica pool, in {@code dgm.replicas.urls} order. */
+    public List<PoolMetrics> getReplicaMetrics() {
+        return Collections.unmodifiableList(replicaMetrics);
+    }
+}
@@ -0,0 +1,19 @@
+package dao.pool;
+
+/**
+ * Thrown by {@link QueryGuard#withBudget} when the guarded work executed more
+ * SQL statements than its budget.
+ */
+public class QueryBudgetExceededException extends RuntimeException {
+
+    private final transient QueryReport report;
+
+    public QueryBudgetExceededException(int budget, QueryReport report) {
+        super("Orçamento de " + budget + " comandos SQL excedido: " + report);
+        this.report = report;
+    }
+
+    public QueryReport getReport() {
+        return report;
+    }
+}
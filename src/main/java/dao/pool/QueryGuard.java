@@ -0,0 +1,119 @@
+package dao.pool;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Counts the SQL statements executed while it is open, to catch query-count
+ * regressions and N+1 patterns (the same statement repeated once per row):
+ *
+ * <pre>
+ * QueryReport report = QueryGuard.measure(() -&gt; service.sendFriendRequest(a, b));
+ * QueryGuard.withBudget(3, () -&gt; service.findById(id));   // throws past 3
+ * </pre>
+ *
+ * Guards are thread-bound and may be nested; an outer guard also counts the
+ * statements of the inner ones. Async DAO calls started inside a guard are
+ * counted by it too. Counting relies on the instrumented connections of
+ * {@link PooledConnectionProvider}, so {@code dgm.sql.stats} must be on.
+ */
+public final class QueryGuard implements AutoCloseable {
+
+    private static final ThreadLocal<QueryGuard> CURRENT = new ThreadLocal<>();
+    private static volatile boolean instrumented;
+
+    private final QueryGuard parent;
+    private final Map<String, AtomicInteger> executions = new ConcurrentHashMap<>();
+    private final AtomicInteger total = new AtomicInteger();
+
+    private QueryGuard(QueryGuard parent) {
+        this.parent = parent;
+    }
+
+    // #region Scopes
+    /** Opens a guard on this thread; close it to stop counting. */
+    public static QueryGuard open() {
+        if (!instrumented) {
+            throw new IllegalStateException("QueryGuard requer as conexões instrumentadas (dgm.sql.stats=true)");
+        }
+        QueryGuard guard = new QueryGuard(CURRENT.get());
+        CURRENT.set(guard);
+        return guard;
+    }
+
+    public static QueryReport measure(Runnable work) {
+        try (QueryGuard guard = open()) {
+            work.run();
+            return guard.report();
+        }
+    }
+
+    /**
+     * Runs {@code work} and fails with {@link QueryBudgetExceededException}
+     * if it executed more than {@code maxStatements} statements.
+     */
+    public static <R> R withBudget(int maxStatements, Supplier<R> work) {
+        try (QueryGuard guard = open()) {
+            R result = work.get();
+            QueryReport report = guard.report();
+            if (report.getStatementCount() > maxStatements) {
+                throw new QueryBudgetExceededException(maxStatements, report);
+            }
+            return result;
+        }
+    }
+
+    public static void withBudget(int maxStatements, Runnable work) {
+        withBudget(maxStatements, () -> {
+            work.run();
+            return null;
+        });
+    }
+
+    public QueryReport report() {
+        return new QueryReport(total.get(), executions);
+    }
+
+    @Override
+    public void close() {
+        if (CURRENT.get() == this) {
+            if (parent == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(parent);
+            }
+        }
+    }
+    // #endregion Scopes
+
+    // #region Recording
+    static void enableInstrumentation() {
+        instrumented = true;
+    }
+
+    static void record(String sql) {
+        for (QueryGuard guard = CURRENT.get(); guard != null; guard = guard.parent) {
+            guard.total.incrementAndGet();
+            guard.executions.computeIfAbsent(sql, key -> new AtomicInteger()).incrementAndGet();
+        }
+    }
+
+    /** Guard open on this thread, to carry counting over to another thread. */
+    public static QueryGuard current() {
+        return CURRENT.get();
+    }
+
+    /** Makes {@code guard} the current one; returns the previous one. */
+    public static QueryGuard attach(QueryGuard guard) {
+        QueryGuard previous = CURRENT.get();
+        if (guard == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(guard);
+        }
+        return previous;
+    }
+    // #endregion Recording
+}
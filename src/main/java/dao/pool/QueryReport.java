@@ -0,0 +1,63 @@
+package dao.pool;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Statements executed under a {@link QueryGuard}: the total and how many
+ * times each distinct SQL ran. A statement that ran more than once is a
+ * repeated statement, the usual sign of an N+1 pattern.
+ */
+public class QueryReport {
+
+    private final int statementCount;
+    private final Map<String, Integer> executionsBySql;
+
+    QueryReport(int statementCount, Map<String, AtomicInteger> executions) {
+        this.statementCount = statementCount;
+
+        Map<String, Integer> sorted = new LinkedHashMap<>();
+        executions.entrySet().stream()
+                .sorted((a, b) -> Integer.compare(b.getValue().get(), a.getValue().get()))
+                .forEach(entry -> sorted.put(entry.getKey(), entry.getValue().get()));
+        this.executionsBySql = Collections.unmodifiableMap(sorted);
+    }
+
+    public int getStatementCount() {
+        return statementCount;
+    }
+
+    /** Executions of each distinct SQL, most executed first. */
+    public Map<String, Integer> getExecutionsBySql() {
+        return executionsBySql;
+    }
+
+    /** Statements that ran more than once (possible N+1), most executed first. */
+    public Map<String, Integer> getRepeatedStatements() {
+        Map<String, Integer> repeated = new LinkedHashMap<>();
+        for (Map.Entry<String, Integer> entry : executionsBySql.entrySet()) {
+            if (entry.getValue() > 1) {
+                repeated.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return repeated;
+    }
+
+    public boolean hasRepeatedStatements() {
+        return !getRepeatedStatements().isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder summary = new StringBuilder();
+        summary.append(statementCount).append(" comandos SQL, ")
+                .append(executionsBySql.size()).append(" distintos");
+        for (Map.Entry<String, Integer> entry : getRepeatedStatements().entrySet()) {
+            summary.append(System.lineSeparator())
+                    .append("  possível N+1 (").append(entry.getValue()).append("x): ").append(entry.getKey());
+        }
+        return summary.toString();
+    }
+}
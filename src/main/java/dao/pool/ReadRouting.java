@@ -0,0 +1,65 @@
+package dao.pool;
+
+/**
+ * Thread-bound routing hints read by {@link PooledConnectionProvider} when a
+ * connection is checked out: whether the current work is read-only (and may
+ * go to a replica) and when this thread last committed a write, for the
+ * read-your-writes window.
+ */
+public final class ReadRouting {
+
+    private static final ThreadLocal<Boolean> READ_ONLY = new ThreadLocal<>();
+    private static final ThreadLocal<Long> LAST_WRITE_NANOS = new ThreadLocal<>();
+
+    private ReadRouting() {
+    }
+
+    // #region Read-only Scope
+    /**
+     * Marks the work that follows on this thread as read-only until
+     * {@link #exitReadOnly(boolean)} is called with the returned value.
+     */
+    public static boolean enterReadOnly() {
+        boolean previous = isReadOnly();
+        READ_ONLY.set(Boolean.TRUE);
+        return previous;
+    }
+
+    public static void exitReadOnly(boolean previous) {
+        if (previous) {
+            READ_ONLY.set(Boolean.TRUE);
+        } else {
+            READ_ONLY.remove();
+        }
+    }
+
+    public static boolean isReadOnly() {
+        return Boolean.TRUE.equals(READ_ONLY.get());
+    }
+    // #endregion Read-only Scope
+
+    // #region Read-your-writes
+    /** Records that this thread has just committed a write. */
+    public static void markWrite() {
+        LAST_WRITE_NANOS.set(System.nanoTime());
+    }
+
+    public static boolean wroteWithin(long windowMillis) {
+        Long lastWrite = LAST_WRITE_NANOS.get();
+        return lastWrite != null && System.nanoTime() - lastWrite < windowMillis * 1_000_000L;
+    }
+
+    /** Last write of this thread, to carry the window over to another thread. */
+    public static Long lastWrite() {
+        return LAST_WRITE_NANOS.get();
+    }
+
+    public static void restoreLastWrite(Long lastWriteNanos) {
+        if (lastWriteNanos == null) {
+            LAST_WRITE_NANOS.remove();
+        } else {
+            LAST_WRITE_NANOS.set(lastWriteNanos);
+        }
+    }
+    // #endregion Read-your-writes
+}
@@ -0,0 +1,38 @@
+package dao.pool;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.List;
+
+/**
+ * How {@link PooledConnectionProvider} picks the replica for a read-only
+ * checkout. Configured with {@code dgm.replicas.policy}.
+ */
+public enum ReplicaPolicy {
+
+    /** Each checkout goes to the next replica in turn. */
+    ROUND_ROBIN {
+        @Override
+        HikariDataSource select(List<HikariDataSource> replicas, int tick) {
+            return replicas.get(Math.floorMod(tick, replicas.size()));
+        }
+    },
+
+    /** The replica with the fewest connections in use; ties go to the first. */
+    LEAST_CONNECTIONS {
+        @Override
+        HikariDataSource select(List<HikariDataSource> replicas, int tick) {
+            HikariDataSource best = replicas.get(0);
+            int bestActive = Integer.MAX_VALUE;
+            for (HikariDataSource replica : replicas) {
+                int active = replica.getHikariPoolMXBean().getActiveConnections();
+                if (active < bestActive) {
+                    best = replica;
+                    bestActive = active;
+                }
+            }
+            return best;
+        }
+    };
+
+    abstract HikariDataSource select(List<HikariDataSource> replicas, int tick);
+}
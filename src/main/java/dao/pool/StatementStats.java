@@ -0,0 +1,132 @@
+package dao.pool;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-statement counters gathered by the instrumented connections of
+ * {@link PooledConnectionProvider}: executions, total and maximum latency,
+ * and rows read (queries) or affected (updates and batches) for every SQL
+ * shape. Hibernate binds every value as a parameter, so the SQL text itself
+ * is the shape.
+ * <p>
+ * Recording costs a map lookup and a few atomic adds per execution. The
+ * number of shapes is capped; statements beyond the cap are counted together.
+ */
+public class StatementStats {
+
+    static final String OTHER_SHAPES = "(outras consultas)";
+
+    private final Map<String, Shape> shapes = new ConcurrentHashMap<>();
+    private final int maxShapes;
+
+    public StatementStats(int maxShapes) {
+        this.maxShapes = maxShapes;
+    }
+
+    // #region Recording
+    Shape shape(String sql) {
+        Shape shape = sql == null ? null : shapes.get(sql);
+        if (shape != null) {
+            return shape;
+        }
+        // Lote de Statement simples (sem SQL único) ou limite de formatos atingido
+        if (sql == null || shapes.size() >= maxShapes) {
+            return shapes.computeIfAbsent(OTHER_SHAPES, key -> new Shape(key));
+        }
+        return shapes.computeIfAbsent(sql, key -> new Shape(normalize(key)));
+    }
+
+    private static String normalize(String sql) {
+        return sql == null ? "" : sql.trim().replaceAll("\\s+", " ");
+    }
+
+    static final class Shape {
+        private final String sql;
+        private final LongAdder executions = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Long::max, 0L);
+        private final LongAdder rows = new LongAdder();
+
+        private Shape(String sql) {
+            this.sql = sql;
+        }
+
+        void recordExecution(long elapsedNanos) {
+            executions.increment();
+            totalNanos.add(elapsedNanos);
+            maxNanos.accumulate(elapsedNanos);
+        }
+
+        void recordRows(long count) {
+            rows.add(count);
+        }
+    }
+    // #endregion Recording
+
+    // #region Reading
+    /** Current counters of every shape, most total time first. */
+    public List<Entry> snapshot() {
+        List<Entry> entries = new ArrayList<>();
+        for (Shape shape : shapes.values()) {
+            entries.add(new Entry(shape.sql, shape.executions.sum(), shape.totalNanos.sum(),
+                    shape.maxNanos.get(), shape.rows.sum()));
+        }
+        entries.sort(Comparator.comparingLong(Entry::getTotalNanos).reversed());
+        return entries;
+    }
+
+    public void reset() {
+        shapes.clear();
+    }
+
+    public static final class Entry {
+        private final String sql;
+        private final long executions;
+        private final long totalNanos;
+        private final long maxNanos;
+        private final long rows;
+
+        private Entry(String sql, long executions, long totalNanos, long maxNanos, long rows) {
+            this.sql = sql;
+            this.executions = executions;
+            this.totalNanos = totalNanos;
+            this.maxNanos = maxNanos;
+            this.rows = rows;
+        }
+
+        public String getSql() {
+            return sql;
+        }
+
+        public long getExecutions() {
+            return executions;
+        }
+
+        public long getTotalNanos() {
+            return totalNanos;
+        }
+
+        public double getTotalMillis() {
+            return totalNanos / 1_000_000.0;
+        }
+
+        public double getAverageMillis() {
+            return executions == 0 ? 0 : getTotalMillis() / executions;
+        }
+
+        public double getMaxMillis() {
+            return maxNanos / 1_000_000.0;
+        }
+
+        public long getRows() {
+            return rows;
+        }
+    }
+    // #endregion Reading
+}
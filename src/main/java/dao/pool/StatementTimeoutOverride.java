@@ -0,0 +1,27 @@
+package dao.pool;
+
+import com.zaxxer.hikari.SQLExceptionOverride;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+
+/**
+ * Keeps connections whose statement was cancelled at its query timeout.
+ * HikariCP evicts a connection on any {@link SQLTimeoutException}, but a
+ * cancelled statement leaves the connection usable, and evicting it would
+ * make the transaction's rollback fail and hide the timeout behind a
+ * "connection is closed" error. Other failures keep Hikari's rules.
+ */
+public final class StatementTimeoutOverride implements SQLExceptionOverride {
+
+    // 57014: comando cancelado (H2, PostgreSQL)
+    private static final String CANCELLED_STATE = "57014";
+
+    // Override (anotação) é sombreado pelo enum SQLExceptionOverride.Override
+    @java.lang.Override
+    public Override adjudicate(SQLException e) {
+        if (e instanceof SQLTimeoutException || CANCELLED_STATE.equals(e.getSQLState())) {
+            return Override.DO_NOT_EVICT;
+        }
+        return Override.CONTINUE_EVICT;
+    }
+}
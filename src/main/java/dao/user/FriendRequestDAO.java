@@ -3,9 +3,11 @@ package dao.user;
 import model.user.FriendRequest;
 import model.user.FriendRequestState;
 import model.user.User;
+import dao.AsyncExecutor;
 import dao.GenericDAO;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import javax.persistence.TypedQuery;
 
 public class FriendRequestDAO extends GenericDAO<FriendRequest> {
@@ -15,15 +17,8 @@ public class FriendRequestDAO extends GenericDAO<FriendRequest> {
     }
 
     public Set<User> findFriendsByUserId(Long userId) {
-        return executeInTransaction(em -> {
-            String jpql = 
-                "SELECT DISTINCT u FROM User u "
-                    + "WHERE EXISTS (SELECT 1 FROM FriendRequest fr "
-                    + "WHERE fr.status = :status "
-                    + "AND ((fr.fromUser.id = :userId AND fr.toUser.id = u.id) OR "
-                    + "(fr.toUser.id = :userId AND fr.fromUser.id = u.id)))";
-
-            TypedQuery<User> query = em.createQuery(jpql, User.class);
+        return executeReadOnly("findFriendsByUserId", em -> {
+            TypedQuery<User> query = em.createNamedQuery("FriendRequest.findFriendsOfUser", User.class);
             query.setParameter("userId", userId);
             query.setParameter("status", FriendRequestState.ACCEPTED);
 
@@ -32,13 +27,8 @@ public class FriendRequestDAO extends GenericDAO<FriendRequest> {
     }
 
     public Set<FriendRequest> findSentPendingByUserId(Long fromUserId) {
-        return executeInTransaction(em -> {
-            String jpql = "SELECT fr FROM FriendRequest fr JOIN FETCH fr.toUser "
-                + "WHERE fr.fromUser.id = :fromUserId "
-                + "AND fr.status = :status "
-                + "ORDER BY fr.createdAt DESC";
-
-            TypedQuery<FriendRequest> query = em.createQuery(jpql, FriendRequest.class);
+        return executeReadOnly("findSentPendingByUserId", em -> {
+            TypedQuery<FriendRequest> query = em.createNamedQuery("FriendRequest.findSentByUserAndStatus", FriendRequest.class);
             query.setParameter("fromUserId", fromUserId);
             query.setParameter("status", FriendRequestState.PENDING);
             return new HashSet<>(query.getResultList());
@@ -46,24 +36,12 @@ public class FriendRequestDAO extends GenericDAO<FriendRequest> {
     }
 
     public Set<FriendRequest> findPendingReceivedByUserId(Long toUserId) {
-        return executeInTransaction(em -> {
-            String jpql = "SELECT fr FROM FriendRequest fr JOIN FETCH fr.fromUser "
-                    + "WHERE fr.toUser.id = :toUserId AND fr.status = :status ORDER BY fr.createdAt DESC";
-
-            TypedQuery<FriendRequest> query = em.createQuery(jpql, FriendRequest.class);
-            query.setParameter("toUserId", toUserId);
-            query.setParameter("status", FriendRequestState.PENDING);
-
-            return new HashSet<>(query.getResultList());
-        });
+        return findReceivedByUserIdAndStatus(toUserId, FriendRequestState.PENDING);
     }
 
     public Set<FriendRequest> findReceivedByUserIdAndStatus(Long toUserId, FriendRequestState status) {
-        return executeInTransaction(em -> {
-            String jpql = "SELECT fr FROM FriendRequest fr JOIN FETCH fr.fromUser "
-                    + "WHERE fr.toUser.id = :toUserId AND fr.status = :status ORDER BY fr.createdAt DESC";
-
-            TypedQuery<FriendRequest> query = em.createQuery(jpql, FriendRequest.class);
+        return executeReadOnly("findReceivedByUserIdAndStatus", em -> {
+            TypedQuery<FriendRequest> query = em.createNamedQuery("FriendRequest.findReceivedByUserAndStatus", FriendRequest.class);
             query.setParameter("toUserId", toUserId);
             query.setParameter("status", status);
 
@@ -72,12 +50,9 @@ public class FriendRequestDAO extends GenericDAO<FriendRequest> {
     }
 
     public boolean existsPendingBetween(Long userId1, Long userId2) {
-        return executeInTransaction(em -> {
-            String jpql = "SELECT COUNT(fr) FROM FriendRequest fr WHERE fr.status = 'PENDING' AND ("
-                    + "(fr.fromUser.id = :id1 AND fr.toUser.id = :id2) OR "
-                    + "(fr.fromUser.id = :id2 AND fr.toUser.id = :id1))";
-
-            TypedQuery<Long> query = em.createQuery(jpql, Long.class);
+        return executeReadOnly("existsPendingBetween", em -> {
+            TypedQuery<Long> query = em.createNamedQuery("FriendRequest.countByStatusBetween", Long.class);
+            query.setParameter("status", FriendRequestState.PENDING);
             query.setParameter("id1", userId1);
             query.setParameter("id2", userId2);
 
@@ -85,13 +60,49 @@ public class FriendRequestDAO extends GenericDAO<FriendRequest> {
         });
     }
 
+    /**
+     * States among {@code statuses} of the requests between the two users, in
+     * either direction, read in a single query.
+     */
+    public Set<FriendRequestState> findStatusesBetween(Long userId1, Long userId2, Set<FriendRequestState> statuses) {
+        return executeReadOnly("findStatusesBetween", em -> {
+            TypedQuery<FriendRequestState> query = em.createNamedQuery("FriendRequest.findStatusesBetween", FriendRequestState.class);
+            query.setParameter("statuses", statuses);
+            query.setParameter("id1", userId1);
+            query.setParameter("id2", userId2);
+
+            return new HashSet<>(query.getResultList());
+        });
+    }
+
     @Override
     public FriendRequest findById(Long id) {
-        return executeInTransaction(em -> {
-            String jpql = "SELECT fr FROM FriendRequest fr JOIN FETCH fr.fromUser JOIN FETCH fr.toUser WHERE fr.id = :id";
-            TypedQuery<FriendRequest> query = em.createQuery(jpql, FriendRequest.class);
+        return executeReadOnly("findById", em -> {
+            TypedQuery<FriendRequest> query = em.createNamedQuery("FriendRequest.findByIdWithUsers", FriendRequest.class);
             query.setParameter("id", id);
             return query.getResultStream().findFirst().orElse(null);
         });
     }
+
+    // #region Async Finders
+    public CompletableFuture<Set<User>> findFriendsByUserIdAsync(Long userId) {
+        return AsyncExecutor.supply(() -> findFriendsByUserId(userId));
+    }
+
+    public CompletableFuture<Set<FriendRequest>> findSentPendingByUserIdAsync(Long fromUserId) {
+        return AsyncExecutor.supply(() -> findSentPendingByUserId(fromUserId));
+    }
+
+    public CompletableFuture<Set<FriendRequest>> findPendingReceivedByUserIdAsync(Long toUserId) {
+        return AsyncExecutor.supply(() -> findPendingReceivedByUserId(toUserId));
+    }
+
+    public CompletableFuture<Set<FriendRequest>> findReceivedByUserIdAndStatusAsync(Long toUserId, FriendRequestState status) {
+        return AsyncExecutor.supply(() -> findReceivedByUserIdAndStatus(toUserId, status));
+    }
+
+    public CompletableFuture<Boolean> existsPendingBetweenAsync(Long userId1, Long userId2) {
+        return AsyncExecutor.supply(() -> existsPendingBetween(userId1, userId2));
+    }
+    // #endregion Async Finders
 }
@@ -1,9 +1,13 @@
 package dao.user;
 
 import model.user.User;
+import dao.AsyncExecutor;
 import dao.GenericDAO;
+import dao.Page;
 import utils.MyLinkedList;
 import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 import javax.persistence.TypedQuery;
 
 public class UserDAO extends GenericDAO<User> {
@@ -14,22 +18,20 @@ public class UserDAO extends GenericDAO<User> {
 
     // #region Finders by Profile Data
     public MyLinkedList<User> findByBirthDate(LocalDate birthDate) {
-        return executeInTransaction(em -> {
-            String jpql = "SELECT u FROM User u WHERE u.birthDate = :birthDate";
-            TypedQuery<User> query = em.createQuery(jpql, User.class);
+        return executeReadOnly("findByBirthDate", em -> {
+            TypedQuery<User> query = em.createNamedQuery("User.findByBirthDate", User.class);
             query.setParameter("birthDate", birthDate);
             return MyLinkedList.fromJavaList(query.getResultList());
         });
     }
 
     public MyLinkedList<User> findByAge(int age) {
-        return executeInTransaction(em -> {
+        return executeReadOnly("findByAge", em -> {
             LocalDate today = LocalDate.now();
             LocalDate startDate = today.minusYears(age + 1).plusDays(1);
             LocalDate endDate = today.minusYears(age);
 
-            String jpql = "SELECT u FROM User u WHERE u.birthDate BETWEEN :startDate AND :endDate";
-            TypedQuery<User> query = em.createQuery(jpql, User.class);
+            TypedQuery<User> query = em.createNamedQuery("User.findByBirthDateBetween", User.class);
             query.setParameter("startDate", startDate);
             query.setParameter("endDate", endDate);
             return MyLinkedList.fromJavaList(query.getResultList());
@@ -39,21 +41,61 @@ public class UserDAO extends GenericDAO<User> {
 
     // #region Finders by RELATED ENTITY
     public MyLinkedList<User> findByGameName(String gameName) {
-        return executeInTransaction(em -> {
-            String jpql = "SELECT DISTINCT u FROM User u JOIN u.userGames ug WHERE ug.game.name = :gameName";
-            TypedQuery<User> query = em.createQuery(jpql, User.class);
-            query.setParameter("gameName", gameName);
-            return MyLinkedList.fromJavaList(query.getResultList());
+        return executeReadOnly("findByGameName", em -> {
+            TypedQuery<Long> ids = em.createNamedQuery("User.idsByGameName", Long.class);
+            ids.setParameter("value", gameName);
+            return findByIdQuery(em, ids);
         });
     }
 
     public MyLinkedList<User> findByGameId(Long gameId) {
-        return executeInTransaction(em -> {
-            String jpql = "SELECT DISTINCT u FROM User u JOIN u.userGames ug WHERE ug.game.id = :gameId";
-            TypedQuery<User> query = em.createQuery(jpql, User.class);
+        return executeReadOnly("findByGameId", em -> {
+            TypedQuery<Long> ids = em.createNamedQuery("User.idsByGameId", Long.class);
+            ids.setParameter("value", gameId);
+            return findByIdQuery(em, ids);
+        });
+    }
+
+    public Page<User> findByGameName(String gameName, Long afterId, int limit) {
+        return executeReadOnly("findByGameName", em -> {
+            TypedQuery<User> query = em.createNamedQuery("User.pageByGameName", User.class);
+            query.setParameter("gameName", gameName);
+            return fetchPage(query, afterId, limit);
+        });
+    }
+
+    public Page<User> findByGameId(Long gameId, Long afterId, int limit) {
+        return executeReadOnly("findByGameId", em -> {
+            TypedQuery<User> query = em.createNamedQuery("User.pageByGameId", User.class);
             query.setParameter("gameId", gameId);
-            return MyLinkedList.fromJavaList(query.getResultList());
+            return fetchPage(query, afterId, limit);
         });
     }
     // #endregion Finders by RELATED ENTITY
+
+    // #region Async Finders
+    public CompletableFuture<MyLinkedList<User>> findByBirthDateAsync(LocalDate birthDate) {
+        return AsyncExecutor.supply(() -> findByBirthDate(birthDate));
+    }
+
+    public CompletableFuture<MyLinkedList<User>> findByAgeAsync(int age) {
+        return AsyncExecutor.supply(() -> findByAge(age));
+    }
+
+    public CompletableFuture<MyLinkedList<User>> findByGameNameAsync(String gameName) {
+        return AsyncExecutor.supply(() -> findByGameName(gameName));
+    }
+
+    public CompletableFuture<MyLinkedList<User>> findByGameIdAsync(Long gameId) {
+        return AsyncExecutor.supply(() -> findByGameId(gameId));
+    }
+    // #endregion Async Finders
+
+    // #region Streaming Finders
+    public void forEachByGameIdStreaming(Long gameId, Consumer<? super User> action) {
+        streamQuery(em -> em.createNamedQuery("User.streamByGameId", User.class)
+                .setParameter("gameId", gameId),
+                action);
+    }
+    // #endregion Streaming Finders
 }
@@ -2,8 +2,12 @@ package dao.user;
 
 import model.user.UserGame;
 import model.user.UserGameState;
+import dao.AsyncExecutor;
 import dao.GenericDAO;
+import dao.Page;
 import utils.MyLinkedList;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 import javax.persistence.NoResultException;
 import javax.persistence.TypedQuery;
 
@@ -15,10 +19,9 @@ public class UserGameDAO extends GenericDAO<UserGame> {
 
     // #region Finders
     public UserGame findByUserAndGame(Long userId, Long gameId) {
-        return executeInTransaction(em -> {
+        return executeReadOnly("findByUserAndGame", em -> {
             try {
-                String jpql = "SELECT ug FROM UserGame ug WHERE ug.user.id = :userId AND ug.game.id = :gameId";
-                TypedQuery<UserGame> query = em.createQuery(jpql, UserGame.class);
+                TypedQuery<UserGame> query = em.createNamedQuery("UserGame.findByUserAndGame", UserGame.class);
                 query.setParameter("userId", userId);
                 query.setParameter("gameId", gameId);
                 return query.getSingleResult();
@@ -29,31 +32,73 @@ public class UserGameDAO extends GenericDAO<UserGame> {
     }
 
     public MyLinkedList<UserGame> findAllByUser(Long userId) {
-        return executeInTransaction(em -> {
-            String jpql = "SELECT ug FROM UserGame ug WHERE ug.user.id = :userId";
-            TypedQuery<UserGame> query = em.createQuery(jpql, UserGame.class);
+        return executeReadOnly("findAllByUser", em -> {
+            TypedQuery<UserGame> query = em.createNamedQuery("UserGame.findAllByUser", UserGame.class);
             query.setParameter("userId", userId);
             return MyLinkedList.fromJavaList(query.getResultList());
         });
     }
 
+    public Page<UserGame> findAllByUser(Long userId, Long afterId, int limit) {
+        return executeReadOnly("findAllByUser", em -> {
+            TypedQuery<UserGame> query = em.createNamedQuery("UserGame.pageByUser", UserGame.class);
+            query.setParameter("userId", userId);
+            return fetchPage(query, afterId, limit);
+        });
+    }
+
     public MyLinkedList<UserGame> findByEstimated(Long userId) {
-        return executeInTransaction(em -> {
-            String jpql = "SELECT ug FROM UserGame ug WHERE ug.user.id = :userId AND ug.estimated = true";
-            TypedQuery<UserGame> query = em.createQuery(jpql, UserGame.class);
+        return executeReadOnly("findByEstimated", em -> {
+            TypedQuery<UserGame> query = em.createNamedQuery("UserGame.findEstimatedByUser", UserGame.class);
             query.setParameter("userId", userId);
             return MyLinkedList.fromJavaList(query.getResultList());
         });
     }
 
     public MyLinkedList<UserGame> findByGameState(Long userId, UserGameState state) {
-        return executeInTransaction(em -> {
-            String jpql = "SELECT ug FROM UserGame ug WHERE ug.user.id = :userId AND ug.gameState = :state";
-            TypedQuery<UserGame> query = em.createQuery(jpql, UserGame.class);
+        return executeReadOnly("findByGameState", em -> {
+            TypedQuery<UserGame> query = em.createNamedQuery("UserGame.findByUserAndState", UserGame.class);
             query.setParameter("userId", userId);
             query.setParameter("state", state);
             return MyLinkedList.fromJavaList(query.getResultList());
         });
     }
     // #endregion Finders
+
+    // #region Async Finders
+    public CompletableFuture<UserGame> findByUserAndGameAsync(Long userId, Long gameId) {
+        return AsyncExecutor.supply(() -> findByUserAndGame(userId, gameId));
+    }
+
+    public CompletableFuture<MyLinkedList<UserGame>> findAllByUserAsync(Long userId) {
+        return AsyncExecutor.supply(() -> findAllByUser(userId));
+    }
+
+    public CompletableFuture<MyLinkedList<UserGame>> findByEstimatedAsync(Long userId) {
+        return AsyncExecutor.supply(() -> findByEstimated(userId));
+    }
+
+    public CompletableFuture<MyLinkedList<UserGame>> findByGameStateAsync(Long userId, UserGameState state) {
+        return AsyncExecutor.supply(() -> findByGameState(userId, state));
+    }
+    // #endregion Async Finders
+
+    // #region Streaming Finders
+    public void forEachStreaming(Consumer<? super UserGame> action) {
+        // Consulta própria para trazer usuário e jogo no mesmo cursor
+        streamQuery(em -> em.createNamedQuery("UserGame.streamAllWithUserAndGame", UserGame.class), action);
+    }
+
+    public void forEachByUserStreaming(Long userId, Consumer<? super UserGame> action) {
+        streamQuery(em -> em.createNamedQuery("UserGame.streamByUser", UserGame.class)
+                .setParameter("userId", userId),
+                action);
+    }
+
+    public void forEachByGameStateStreaming(UserGameState state, Consumer<? super UserGame> action) {
+        streamQuery(em -> em.createNamedQuery("UserGame.streamByState", UserGame.class)
+                .setParameter("state", state),
+                action);
+    }
+    // #endregion Streaming Finders
 }
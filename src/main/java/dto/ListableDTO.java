@@ -0,0 +1,28 @@
+package dto;
+
+import model.common.Listable;
+
+/**
+ * Lightweight id/name row for listings and selection menus, built directly
+ * by a JPQL constructor expression instead of hydrating the entity.
+ */
+public class ListableDTO implements Listable {
+
+    private final Long id;
+    private final String name;
+
+    public ListableDTO(Long id, String name) {
+        this.id = id;
+        this.name = name;
+    }
+
+    @Override
+    public Long getId() {
+        return id;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+}
@@ -13,6 +13,15 @@ import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.NamedAttributeNode;
+import javax.persistence.NamedEntityGraph;
+import javax.persistence.NamedEntityGraphs;
+import javax.persistence.NamedNativeQueries;
+import javax.persistence.NamedNativeQuery;
+import javax.persistence.NamedQueries;
+import javax.persistence.NamedQuery;
+import javax.persistence.NamedSubgraph;
 import javax.persistence.OneToMany;
 import javax.persistence.Table;
 
@@ -22,7 +31,79 @@ import org.hibernate.annotations.UpdateTimestamp;
 import model.common.Listable;
 
 @Entity
-@Table(name = "games")
+@Table(
+        name = "games",
+        indexes = {
+            @Index(name = "idx_games_name", columnList = "name"),
+            @Index(name = "idx_games_rating", columnList = "rating")
+        }
+)
+@NamedEntityGraphs({
+    @NamedEntityGraph(
+            name = "Game.genres",
+            attributeNodes = @NamedAttributeNode(value = "gameGenres", subgraph = "genre"),
+            subgraphs = @NamedSubgraph(name = "genre", attributeNodes = @NamedAttributeNode("genre"))
+    ),
+    @NamedEntityGraph(
+            name = "Game.platforms",
+            attributeNodes = @NamedAttributeNode(value = "gamePlatforms", subgraph = "platform"),
+            subgraphs = @NamedSubgraph(name = "platform", attributeNodes = @NamedAttributeNode("platform"))
+    ),
+    @NamedEntityGraph(
+            name = "Game.developers",
+            attributeNodes = @NamedAttributeNode(value = "gameDevelopers", subgraph = "developer"),
+            subgraphs = @NamedSubgraph(name = "developer", attributeNodes = @NamedAttributeNode("developer"))
+    )
+})
+@NamedQueries({
+    // --- Finders ---
+    @NamedQuery(name = "Game.findByRatingGreaterThan",
+            query = "SELECT g FROM Game g WHERE g.rating >= :minRating ORDER BY g.rating DESC"),
+
+    // --- Keyset Pages ---
+    @NamedQuery(name = "Game.pageByRatingFirst",
+            query = "SELECT g FROM Game g WHERE g.rating >= :minRating AND g.id > :afterId ORDER BY g.rating DESC, g.id"),
+    @NamedQuery(name = "Game.pageByRatingAfter",
+            query = "SELECT g FROM Game g WHERE g.rating >= :minRating "
+                    + "AND (g.rating < :afterRating OR (g.rating = :afterRating AND g.id > :afterId)) "
+                    + "ORDER BY g.rating DESC, g.id"),
+    @NamedQuery(name = "Game.pageByGenreName",
+            query = "SELECT g FROM Game g WHERE EXISTS (SELECT 1 FROM GameGenre gg WHERE gg.game = g AND gg.genre.name = :value) "
+                    + "AND g.id > :afterId ORDER BY g.id"),
+    @NamedQuery(name = "Game.pageByPlatformName",
+            query = "SELECT g FROM Game g WHERE EXISTS (SELECT 1 FROM GamePlatform gp WHERE gp.game = g AND gp.platform.name = :value) "
+                    + "AND g.id > :afterId ORDER BY g.id"),
+    @NamedQuery(name = "Game.pageByDeveloperName",
+            query = "SELECT g FROM Game g WHERE EXISTS (SELECT 1 FROM GameDeveloper gd WHERE gd.game = g AND gd.developer.name = :value) "
+                    + "AND g.id > :afterId ORDER BY g.id"),
+    @NamedQuery(name = "Game.pageByGenreId",
+            query = "SELECT g FROM Game g WHERE EXISTS (SELECT 1 FROM GameGenre gg WHERE gg.game = g AND gg.genre.id = :value) "
+                    + "AND g.id > :afterId ORDER BY g.id"),
+    @NamedQuery(name = "Game.pageByPlatformId",
+            query = "SELECT g FROM Game g WHERE EXISTS (SELECT 1 FROM GamePlatform gp WHERE gp.game = g AND gp.platform.id = :value) "
+                    + "AND g.id > :afterId ORDER BY g.id"),
+    @NamedQuery(name = "Game.pageByDeveloperId",
+            query = "SELECT g FROM Game g WHERE EXISTS (SELECT 1 FROM GameDeveloper gd WHERE gd.game = g AND gd.developer.id = :value) "
+                    + "AND g.id > :afterId ORDER BY g.id"),
+
+    // --- Streaming ---
+    @NamedQuery(name = "Game.streamByGenreId",
+            query = "SELECT g FROM Game g WHERE EXISTS "
+                    + "(SELECT 1 FROM GameGenre gg WHERE gg.game = g AND gg.genre.id = :genreId) ORDER BY g.id"),
+    @NamedQuery(name = "Game.streamByRatingGreaterThan",
+            query = "SELECT g FROM Game g WHERE g.rating >= :minRating ORDER BY g.id"),
+
+    // --- Relinking ---
+    // Só para jogos cujos vínculos acabaram de ser apagados: as três listas vêm vazias, numa única linha
+    @NamedQuery(name = "Game.findWithLinks",
+            query = "SELECT g FROM Game g LEFT JOIN FETCH g.gameGenres LEFT JOIN FETCH g.gamePlatforms "
+                    + "LEFT JOIN FETCH g.gameDevelopers WHERE g.id = :id")
+})
+@NamedNativeQueries({
+    @NamedNativeQuery(name = "Game.deleteGenreLinks", query = "DELETE FROM game_genres WHERE game_id = :id"),
+    @NamedNativeQuery(name = "Game.deletePlatformLinks", query = "DELETE FROM game_platforms WHERE game_id = :id"),
+    @NamedNativeQuery(name = "Game.deleteDeveloperLinks", query = "DELETE FROM game_developers WHERE game_id = :id")
+})
 public class Game implements Listable{
 
     // #region Private Fields
@@ -44,7 +125,7 @@ public class Game implements Listable{
             mappedBy = "game",
             cascade = CascadeType.ALL,
             orphanRemoval = true,
-            fetch = FetchType.EAGER
+            fetch = FetchType.LAZY
     )
     private Set<GameGenre> gameGenres = new HashSet<>();
 
@@ -52,7 +133,7 @@ public class Game implements Listable{
             mappedBy = "game",
             cascade = CascadeType.ALL,
             orphanRemoval = true,
-            fetch = FetchType.EAGER
+            fetch = FetchType.LAZY
     )
     private Set<GamePlatform> gamePlatforms = new HashSet<>();
 
@@ -60,7 +141,7 @@ public class Game implements Listable{
             mappedBy = "game",
             cascade = CascadeType.ALL,
             orphanRemoval = true,
-            fetch = FetchType.EAGER
+            fetch = FetchType.LAZY
     )
     private Set<GameDeveloper> gameDevelopers = new HashSet<>();
 
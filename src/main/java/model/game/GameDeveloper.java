@@ -1,49 +1,44 @@
 package model.game;
 
-import java.time.LocalDateTime;
-
+import javax.persistence.EmbeddedId;
 import javax.persistence.Entity;
 import javax.persistence.FetchType;
-import javax.persistence.GeneratedValue;
-import javax.persistence.GenerationType;
-import javax.persistence.Id;
+import javax.persistence.ForeignKey;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.MapsId;
 import javax.persistence.Table;
-import javax.persistence.UniqueConstraint;
-
-import org.hibernate.annotations.CreationTimestamp;
-import org.hibernate.annotations.UpdateTimestamp;
 
+/**
+ * Link between a game and a developer, keyed by the pair itself: no surrogate ID
+ * or audit columns, and the key is known before the insert, so links are
+ * written in JDBC batches.
+ */
 @Entity
 @Table(
         name = "game_developers",
-        uniqueConstraints = {
-            @UniqueConstraint(columnNames = {"developer_id", "game_id"})
+        indexes = {
+            // A PK (game_id, developer_id) atende a busca pelo jogo; este índice, a busca pelo desenvolvedor
+            @Index(name = "idx_game_developers_developer", columnList = "developer_id, game_id")
         }
 )
 public class GameDeveloper {
 
     //#region Private Fields
-    @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    private Long id;
+    @EmbeddedId
+    private GameDeveloperId id = new GameDeveloperId();
 
     // --- Relationships ---
-    @ManyToOne(fetch = FetchType.EAGER)
-    @JoinColumn(nullable = false, name = "developer_id")
+    @MapsId("developerId")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "developer_id", foreignKey = @ForeignKey(name = "fk_game_developers_developer"))
     private Developer developer;
 
-    @ManyToOne(fetch = FetchType.EAGER)
-    @JoinColumn(nullable = false, name = "game_id")
+    @MapsId("gameId")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "game_id", foreignKey = @ForeignKey(name = "fk_game_developers_game"))
     private Game game;
-
-    // --- Audit Fields ---
-    @CreationTimestamp
-    private LocalDateTime createdAt;
-
-    @UpdateTimestamp
-    private LocalDateTime updatedAt;
     //#endregion Private Fields
 
     // #region Constructors
@@ -57,14 +52,10 @@ public class GameDeveloper {
     // #endregion Constructors
 
     //#region Getters and Setters
-    public Long getId() {
+    public GameDeveloperId getId() {
         return id;
     }
 
-    public void setId(Long id) {
-        this.id = id;
-    }
-
     public Game getGame() {
         return game;
     }
@@ -80,21 +71,5 @@ public class GameDeveloper {
     public void setDeveloper(Developer developer) {
         this.developer = developer;
     }
-
-    public LocalDateTime getCreatedAt() {
-        return createdAt;
-    }
-
-    public void setCreatedAt(LocalDateTime createdAt) {
-        this.createdAt = createdAt;
-    }
-
-    public LocalDateTime getUpdatedAt() {
-        return updatedAt;
-    }
-
-    public void setUpdatedAt(LocalDateTime updatedAt) {
-        this.updatedAt = updatedAt;
-    }
     //#endregion Getters and Setters
 }
@@ -0,0 +1,59 @@
+package model.game;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+import javax.persistence.Column;
+import javax.persistence.Embeddable;
+
+/** Primary key of {@link GameDeveloper}: the two foreign keys, {@code (game_id, developer_id)}. */
+@Embeddable
+public class GameDeveloperId implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    // #region Private Fields
+    @Column(name = "game_id")
+    private Long gameId;
+
+    @Column(name = "developer_id")
+    private Long developerId;
+    // #endregion Private Fields
+
+    // #region Constructors
+    public GameDeveloperId() {
+    }
+
+    public GameDeveloperId(Long gameId, Long developerId) {
+        this.gameId = gameId;
+        this.developerId = developerId;
+    }
+    // #endregion Constructors
+
+    // #region Getters
+    public Long getGameId() {
+        return gameId;
+    }
+
+    public Long getDeveloperId() {
+        return developerId;
+    }
+    // #endregion Getters
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof GameDeveloperId)) {
+            return false;
+        }
+        GameDeveloperId other = (GameDeveloperId) o;
+        return Objects.equals(gameId, other.gameId) && Objects.equals(developerId, other.developerId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(gameId, developerId);
+    }
+}
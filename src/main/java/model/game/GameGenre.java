@@ -1,49 +1,44 @@
 package model.game;
 
-import java.time.LocalDateTime;
-
+import javax.persistence.EmbeddedId;
 import javax.persistence.Entity;
 import javax.persistence.FetchType;
-import javax.persistence.GeneratedValue;
-import javax.persistence.GenerationType;
-import javax.persistence.Id;
+import javax.persistence.ForeignKey;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.MapsId;
 import javax.persistence.Table;
-import javax.persistence.UniqueConstraint;
-
-import org.hibernate.annotations.CreationTimestamp;
-import org.hibernate.annotations.UpdateTimestamp;
 
+/**
+ * Link between a game and a genre, keyed by the pair itself: no surrogate ID
+ * or audit columns, and the key is known before the insert, so links are
+ * written in JDBC batches.
+ */
 @Entity
 @Table(
         name = "game_genres",
-        uniqueConstraints = {
-            @UniqueConstraint(columnNames = {"genre_id", "game_id"})
+        indexes = {
+            // A PK (game_id, genre_id) atende a busca pelo jogo; este índice, a busca pelo gênero
+            @Index(name = "idx_game_genres_genre", columnList = "genre_id, game_id")
         }
 )
 public class GameGenre {
 
     //#region Private Fields
-    @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    private Long id;
+    @EmbeddedId
+    private GameGenreId id = new GameGenreId();
 
     // --- Relationships ---
-    @ManyToOne(fetch = FetchType.EAGER)
-    @JoinColumn(nullable = false, name = "genre_id")
+    @MapsId("genreId")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "genre_id", foreignKey = @ForeignKey(name = "fk_game_genres_genre"))
     private Genre genre;
 
-    @ManyToOne(fetch = FetchType.EAGER)
-    @JoinColumn(nullable = false, name = "game_id")
+    @MapsId("gameId")
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "game_id", foreignKey = @ForeignKey(name = "fk_game_genres_game"))
     private Game game;
-
-    // --- Audit Fields ---
-    @CreationTimestamp
-    private LocalDateTime createdAt;
-
-    @UpdateTimestamp
-    private LocalDateTime updatedAt;
     //#endregion Private Fields
 
     // #region Constructors
@@ -57,14 +52,10 @@ public class GameGenre {
     // #endregion Constructors
 
     //#region Getters and Setters
-    public Long getId() {
+    public GameGenreId getId() {
         return id;
     }
 
-    public void setId(Long id) {
-        this.id = id;
-    }
-
     public Game getGame() {
         return game;
     }
@@ -80,21 +71,5 @@ public class GameGenre {
     public void setGenre(Genre genre) {
         this.genre = genre;
     }
-
-    public LocalDateTime getCreatedAt() {
-        return createdAt;
-    }
-
-    public void setCreatedAt(LocalDateTime createdAt) {
-        this.createdAt = createdAt;
-    }
-
-    public LocalDateTime getUpdatedAt() {
-        return updatedAt;
-    }
-
-    public void setUpdatedAt(LocalDateTime updatedAt) {
-        this.updatedAt = updatedAt;
-    }
     //#endregion Getters and Setters
 }
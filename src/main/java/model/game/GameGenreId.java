@@ -0,0 +1,59 @@
+package model.game;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+import javax.persistence.Column;
+import javax.persistence.Embeddable;
+
+/** Primary key of {@link GameGenre}: the two foreign keys, {@code (game_id, genre_id)}. */
+@Embeddable
+public class GameGenreId implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    // #region Private Fields
+    @Column(name = "game_id")
+    private Long gameId;
+
+    @Column(name = "genre_id")
+    private Long genreId;
+    // #endregion Private Fields
+
+    // #region Constructors
+    public GameGenreId() {
+    }
+
+    public GameGenreId(Long gameId, Long genreId) {
+        this.gameId = gameId;
+        this.genreId = genreId;
+    }
+    // #endregion Constructors
+
+    // #region Getters
+    public Long getGameId() {
+        return gameId;
+    }
+
+    public Long getGenreId() {
+        return genreId;
+    }
+    // #endregion Getters
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof GameGenreId)) {
+            return false;
+        }
+        GameGenreId other = (GameGenreId) o;
+        return Objects.equals(gameId, other.gameId) && Objects.equals(genreId, other.genreId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(gameId, genreId);
+    }
+}
@@ -0,0 +1,59 @@
+package model.game;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+import javax.persistence.Column;
+import javax.persistence.Embeddable;
+
+/** Primary key of {@link GamePlatform}: the two foreign keys, {@code (game_id, platform_id)}. */
+@Embeddable
+public class GamePlatformId implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    // #region Private Fields
+    @Column(name = "game_id")
+    private Long gameId;
+
+    @Column(name = "platform_id")
+    private Long platformId;
+    // #endregion Private Fields
+
+    // #region Constructors
+    public GamePlatformId() {
+    }
+
+    public GamePlatformId(Long gameId, Long platformId) {
+        this.gameId = gameId;
+        this.platformId = platformId;
+    }
+    // #endregion Constructors
+
+    // #region Getters
+    public Long getGameId() {
+        return gameId;
+    }
+
+    public Long getPlatformId() {
+        return platformId;
+    }
+    // #endregion Getters
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof GamePlatformId)) {
+            return false;
+        }
+        GamePlatformId other = (GamePlatformId) o;
+        return Objects.equals(gameId, other.gameId) && Objects.equals(platformId, other.platformId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(gameId, platformId);
+    }
+}
@@ -2,20 +2,35 @@ package model.game;
 
 import java.time.LocalDateTime;
 
+import javax.persistence.Cacheable;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import model.common.Listable;
 
 @Entity
-@Table(name = "platforms")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@NaturalIdCache
+@Table(
+        name = "platforms",
+        uniqueConstraints = {
+            // Mesma chave única do @NaturalId, com nome fixo (db/migration/003_unique_catalog_names.sql)
+            @UniqueConstraint(name = "uk_platforms_name", columnNames = "name")
+        }
+)
 public class Platform implements Listable {
 
     // #region Private Fields
@@ -23,6 +38,7 @@ public class Platform implements Listable {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @NaturalId(mutable = true)
     @Column(nullable = false, length = 150)
     private String name;
 
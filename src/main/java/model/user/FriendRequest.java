@@ -8,8 +8,11 @@ import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.NamedQueries;
+import javax.persistence.NamedQuery;
 import javax.persistence.Table;
 import javax.persistence.UniqueConstraint;
 
@@ -21,8 +24,36 @@ import org.hibernate.annotations.UpdateTimestamp;
         name = "friend_requests",
         uniqueConstraints = {
             @UniqueConstraint(columnNames = {"from_user_id", "to_user_id"})
+        },
+        indexes = {
+            @Index(name = "idx_friend_requests_to_status", columnList = "to_user_id, status, createdAt"),
+            @Index(name = "idx_friend_requests_from_status", columnList = "from_user_id, status, createdAt")
         }
 )
+@NamedQueries({
+    @NamedQuery(name = "FriendRequest.findFriendsOfUser",
+            query = "SELECT DISTINCT u FROM User u "
+                    + "WHERE EXISTS (SELECT 1 FROM FriendRequest fr "
+                    + "WHERE fr.status = :status "
+                    + "AND ((fr.fromUser.id = :userId AND fr.toUser.id = u.id) OR "
+                    + "(fr.toUser.id = :userId AND fr.fromUser.id = u.id)))"),
+    @NamedQuery(name = "FriendRequest.findSentByUserAndStatus",
+            query = "SELECT fr FROM FriendRequest fr JOIN FETCH fr.toUser "
+                    + "WHERE fr.fromUser.id = :fromUserId AND fr.status = :status ORDER BY fr.createdAt DESC"),
+    @NamedQuery(name = "FriendRequest.findReceivedByUserAndStatus",
+            query = "SELECT fr FROM FriendRequest fr JOIN FETCH fr.fromUser "
+                    + "WHERE fr.toUser.id = :toUserId AND fr.status = :status ORDER BY fr.createdAt DESC"),
+    @NamedQuery(name = "FriendRequest.countByStatusBetween",
+            query = "SELECT COUNT(fr) FROM FriendRequest fr WHERE fr.status = :status AND ("
+                    + "(fr.fromUser.id = :id1 AND fr.toUser.id = :id2) OR "
+                    + "(fr.fromUser.id = :id2 AND fr.toUser.id = :id1))"),
+    @NamedQuery(name = "FriendRequest.findStatusesBetween",
+            query = "SELECT DISTINCT fr.status FROM FriendRequest fr WHERE fr.status IN :statuses AND ("
+                    + "(fr.fromUser.id = :id1 AND fr.toUser.id = :id2) OR "
+                    + "(fr.fromUser.id = :id2 AND fr.toUser.id = :id1))"),
+    @NamedQuery(name = "FriendRequest.findByIdWithUsers",
+            query = "SELECT fr FROM FriendRequest fr JOIN FETCH fr.fromUser JOIN FETCH fr.toUser WHERE fr.id = :id")
+})
 public class FriendRequest {
 
     //#region Private Fields
@@ -31,11 +62,11 @@ public class FriendRequest {
     private Long id;
 
     // --- Relationships ---
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(nullable = false, name = "from_user_id")
     private User fromUser;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(nullable = false, name = "to_user_id")
     private User toUser;
 
@@ -12,6 +12,12 @@ import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.NamedAttributeNode;
+import javax.persistence.NamedEntityGraph;
+import javax.persistence.NamedQueries;
+import javax.persistence.NamedQuery;
+import javax.persistence.NamedSubgraph;
 import javax.persistence.OneToMany;
 import javax.persistence.Table;
 
@@ -19,7 +25,41 @@ import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
 @Entity
-@Table(name = "users")
+@Table(
+        name = "users",
+        indexes = {
+            @Index(name = "idx_users_name", columnList = "name"),
+            @Index(name = "idx_users_birth_date", columnList = "birth_date")
+        }
+)
+@NamedEntityGraph(
+        name = "User.library",
+        attributeNodes = @NamedAttributeNode(value = "userGames", subgraph = "game"),
+        subgraphs = @NamedSubgraph(name = "game", attributeNodes = @NamedAttributeNode("game"))
+)
+@NamedQueries({
+    @NamedQuery(name = "User.findByBirthDate",
+            query = "SELECT u FROM User u WHERE u.birthDate = :birthDate"),
+    @NamedQuery(name = "User.findByBirthDateBetween",
+            query = "SELECT u FROM User u WHERE u.birthDate BETWEEN :startDate AND :endDate"),
+    @NamedQuery(name = "User.idsByGameName",
+            query = "SELECT u.id FROM User u WHERE EXISTS "
+                    + "(SELECT 1 FROM UserGame ug WHERE ug.user = u AND ug.game.name = :value) ORDER BY u.id"),
+    @NamedQuery(name = "User.idsByGameId",
+            query = "SELECT u.id FROM User u WHERE EXISTS "
+                    + "(SELECT 1 FROM UserGame ug WHERE ug.user = u AND ug.game.id = :value) ORDER BY u.id"),
+    @NamedQuery(name = "User.pageByGameName",
+            query = "SELECT u FROM User u WHERE EXISTS "
+                    + "(SELECT 1 FROM UserGame ug WHERE ug.user = u AND ug.game.name = :gameName) "
+                    + "AND u.id > :afterId ORDER BY u.id"),
+    @NamedQuery(name = "User.pageByGameId",
+            query = "SELECT u FROM User u WHERE EXISTS "
+                    + "(SELECT 1 FROM UserGame ug WHERE ug.user = u AND ug.game.id = :gameId) "
+                    + "AND u.id > :afterId ORDER BY u.id"),
+    @NamedQuery(name = "User.streamByGameId",
+            query = "SELECT u FROM User u WHERE EXISTS "
+                    + "(SELECT 1 FROM UserGame ug WHERE ug.user = u AND ug.game.id = :gameId) ORDER BY u.id")
+})
 public class User {
 
     // #region Private Fields
@@ -41,7 +81,7 @@ public class User {
             mappedBy = "user",
             cascade = CascadeType.ALL,
             orphanRemoval = true,
-            fetch = FetchType.EAGER
+            fetch = FetchType.LAZY
     )
     private Set<UserGame> userGames = new HashSet<>();
 
@@ -49,7 +89,7 @@ public class User {
             mappedBy = "fromUser",
             cascade = CascadeType.ALL,
             orphanRemoval = true,
-            fetch = FetchType.EAGER)
+            fetch = FetchType.LAZY)
     private Set<FriendRequest> sentRequests = new HashSet<>();
 
     // --- Audit Fields ---
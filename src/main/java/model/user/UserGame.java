@@ -8,8 +8,11 @@ import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.NamedQueries;
+import javax.persistence.NamedQuery;
 import javax.persistence.Table;
 import javax.persistence.UniqueConstraint;
 
@@ -23,8 +26,30 @@ import model.game.Game;
         name = "user_game",
         uniqueConstraints = {
             @UniqueConstraint(columnNames = {"user_id", "game_id"})
+        },
+        indexes = {
+            @Index(name = "idx_user_game_user_state", columnList = "user_id, game_state"),
+            @Index(name = "idx_user_game_user_estimated", columnList = "user_id, estimated")
         }
 )
+@NamedQueries({
+    @NamedQuery(name = "UserGame.findByUserAndGame",
+            query = "SELECT ug FROM UserGame ug WHERE ug.user.id = :userId AND ug.game.id = :gameId"),
+    @NamedQuery(name = "UserGame.findAllByUser",
+            query = "SELECT ug FROM UserGame ug WHERE ug.user.id = :userId"),
+    @NamedQuery(name = "UserGame.pageByUser",
+            query = "SELECT ug FROM UserGame ug WHERE ug.user.id = :userId AND ug.id > :afterId ORDER BY ug.id"),
+    @NamedQuery(name = "UserGame.findEstimatedByUser",
+            query = "SELECT ug FROM UserGame ug WHERE ug.user.id = :userId AND ug.estimated = true"),
+    @NamedQuery(name = "UserGame.findByUserAndState",
+            query = "SELECT ug FROM UserGame ug WHERE ug.user.id = :userId AND ug.gameState = :state"),
+    @NamedQuery(name = "UserGame.streamAllWithUserAndGame",
+            query = "SELECT ug FROM UserGame ug JOIN FETCH ug.user JOIN FETCH ug.game ORDER BY ug.id"),
+    @NamedQuery(name = "UserGame.streamByUser",
+            query = "SELECT ug FROM UserGame ug WHERE ug.user.id = :userId ORDER BY ug.id"),
+    @NamedQuery(name = "UserGame.streamByState",
+            query = "SELECT ug FROM UserGame ug WHERE ug.gameState = :state ORDER BY ug.id")
+})
 public class UserGame {
 
     // #region Private Fields
@@ -45,11 +70,11 @@ public class UserGame {
     private LocalDateTime lastTimePlayed;
 
     // --- Relationships ---
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(nullable = false, name = "user_id")
     private User user;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(nullable = false, name = "game_id")
     private Game game;
 
@@ -1,10 +1,13 @@
 package service.game;
 
 import model.game.Developer;
+import dao.UnitOfWork;
 import dao.game.DeveloperDAO;
+import dto.ListableDTO;
 import service.exception.ServiceException;
 import service.exception.ValidationException;
 import utils.MyLinkedList;
+import java.util.concurrent.CompletableFuture;
 
 public class DeveloperService {
 
@@ -21,15 +24,17 @@ public class DeveloperService {
         if (name == null || name.trim().isEmpty()) {
             throw new ValidationException("Nome do desenvolvedor não pode estar vazio.");
         }
-        if (developerDAO.findByName(name.trim()) != null) {
-            throw new ValidationException("Já existe um desenvolvedor com o nome '" + name + "'.");
-        }
+        return UnitOfWork.executeInTransaction(() -> {
+            if (developerDAO.findByName(name.trim()) != null) {
+                throw new ValidationException("Já existe um desenvolvedor com o nome '" + name + "'.");
+            }
 
-        Developer newDeveloper = new Developer();
-        newDeveloper.setName(name.trim());
+            Developer newDeveloper = new Developer();
+            newDeveloper.setName(name.trim());
 
-        developerDAO.save(newDeveloper);
-        return newDeveloper;
+            developerDAO.save(newDeveloper);
+            return newDeveloper;
+        });
     }
 
     public Developer updateDeveloper(Long id, String name)
@@ -42,18 +47,20 @@ public class DeveloperService {
             throw new ValidationException("Nome do desenvolvedor não pode estar vazio.");
         }
 
-        Developer existing = developerDAO.findById(id);
-        if (existing == null) {
-            throw new ValidationException("Desenvolvedor com ID " + id + " não encontrado.");
-        }
-        Developer duplicate = developerDAO.findByName(name.trim());
-        if (duplicate != null && !duplicate.getId().equals(id)) {
-            throw new ValidationException("Já existe outro desenvolvedor com o nome '" + name + "'.");
-        }
+        return UnitOfWork.executeInTransaction(() -> {
+            Developer existing = developerDAO.findById(id);
+            if (existing == null) {
+                throw new ValidationException("Desenvolvedor com ID " + id + " não encontrado.");
+            }
+            Developer duplicate = developerDAO.findByName(name.trim());
+            if (duplicate != null && !duplicate.getId().equals(id)) {
+                throw new ValidationException("Já existe outro desenvolvedor com o nome '" + name + "'.");
+            }
 
-        existing.setName(name.trim());
+            existing.setName(name.trim());
 
-        return developerDAO.update(existing);
+            return developerDAO.update(existing);
+        });
     }
 
     public Developer createOrFind(String name)
@@ -63,15 +70,17 @@ public class DeveloperService {
             throw new ValidationException("Nome do desenvolvedor não pode estar vazio.");
         }
 
-        Developer existing = developerDAO.findByName(name.trim());
-        if (existing != null) {
-            return existing;
-        }
-
-        Developer newDev = new Developer();
-        newDev.setName(name.trim());
-        developerDAO.save(newDev);
-        return newDev;
+        return UnitOfWork.executeInTransaction(() -> {
+            Developer existing = developerDAO.findByName(name.trim());
+            if (existing != null) {
+                return existing;
+            }
+
+            Developer newDev = new Developer();
+            newDev.setName(name.trim());
+            developerDAO.save(newDev);
+            return newDev;
+        });
     }
 
     public void deleteDeveloper(Long id) {
@@ -91,5 +100,13 @@ public class DeveloperService {
     public MyLinkedList<Developer> findAll() {
         return developerDAO.findAll();
     }
+
+    public MyLinkedList<ListableDTO> findAllListable() {
+        return developerDAO.findAllListable();
+    }
+
+    public CompletableFuture<MyLinkedList<ListableDTO>> findAllListableAsync() {
+        return developerDAO.findAllListableAsync();
+    }
     // #endregion Read-Only Operations
 }
@@ -1,13 +1,18 @@
 package service.game;
 
 import model.game.*;
+import dao.FetchPlan;
+import dao.Page;
+import dao.UnitOfWork;
 import dao.game.*;
+import dto.ListableDTO;
 import service.exception.ValidationException;
 import utils.MyLinkedList;
 
 import java.time.LocalDate;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 public class GameService {
 
@@ -32,19 +37,21 @@ public class GameService {
             MyLinkedList<Long> developerIds
     ) {
 
-        ValidatedGameData data = validateAndFetchGameData(
-                name, genreIds, platformIds, developerIds
-        );
-
-        Game game = new Game();
-        game.setName(data.getName());
-        game.setReleaseDate(releaseDate);
-        data.getGenres().forEach(g -> game.getGameGenres().add(new GameGenre(game, g)));
-        data.getPlatforms().forEach(p -> game.getGamePlatforms().add(new GamePlatform(game, p)));
-        data.getDevelopers().forEach(d -> game.getGameDevelopers().add(new GameDeveloper(game, d)));
-
-        gameDAO.save(game);
-        return game;
+        return UnitOfWork.executeInTransaction(() -> {
+            ValidatedGameData data = validateAndFetchGameData(
+                    name, genreIds, platformIds, developerIds
+            );
+
+            Game game = new Game();
+            game.setName(data.getName());
+            game.setReleaseDate(releaseDate);
+            data.getGenres().forEach(g -> game.getGameGenres().add(new GameGenre(game, g)));
+            data.getPlatforms().forEach(p -> game.getGamePlatforms().add(new GamePlatform(game, p)));
+            data.getDevelopers().forEach(d -> game.getGameDevelopers().add(new GameDeveloper(game, d)));
+
+            gameDAO.save(game);
+            return game;
+        });
     }
 
     public Game updateGame(
@@ -56,29 +63,33 @@ public class GameService {
             MyLinkedList<Long> developerIds
     ) {
 
-        Game originalGame = gameDAO.findById(id);
-        if (originalGame == null) throw new ValidationException("Jogo com ID " + id + " não encontrado.");
+        return UnitOfWork.executeInTransaction(() -> {
+            Game originalGame = gameDAO.findById(id);
+            if (originalGame == null) throw new ValidationException("Jogo com ID " + id + " não encontrado.");
 
-        ValidatedGameData data = validateAndFetchGameData(
-                name, genreIds, platformIds, developerIds
-        );
+            ValidatedGameData data = validateAndFetchGameData(
+                    name, genreIds, platformIds, developerIds
+            );
 
-        Game freshGame = gameDAO.refreshAndClearAssociations(originalGame);
-        freshGame.setName(data.getName());
-        freshGame.setReleaseDate(releaseDate);
-        data.getGenres().forEach(g -> freshGame.getGameGenres().add(new GameGenre(freshGame, g)));
-        data.getPlatforms().forEach(p -> freshGame.getGamePlatforms().add(new GamePlatform(freshGame, p)));
-        data.getDevelopers().forEach(d -> freshGame.getGameDevelopers().add(new GameDeveloper(freshGame, d)));
+            Game freshGame = gameDAO.refreshAndClearAssociations(originalGame);
+            freshGame.setName(data.getName());
+            freshGame.setReleaseDate(releaseDate);
+            data.getGenres().forEach(g -> freshGame.getGameGenres().add(new GameGenre(freshGame, g)));
+            data.getPlatforms().forEach(p -> freshGame.getGamePlatforms().add(new GamePlatform(freshGame, p)));
+            data.getDevelopers().forEach(d -> freshGame.getGameDevelopers().add(new GameDeveloper(freshGame, d)));
 
-        return gameDAO.update(freshGame);
+            return gameDAO.update(freshGame);
+        });
     }
 
     public void deleteGame(Long id) {
-        Game game = gameDAO.findById(id);
-        if (game == null) {
-            throw new ValidationException("Jogo com ID " + id + " não encontrado.");
-        }
-        gameDAO.delete(id);
+        UnitOfWork.performInTransaction(() -> {
+            Game game = gameDAO.findById(id);
+            if (game == null) {
+                throw new ValidationException("Jogo com ID " + id + " não encontrado.");
+            }
+            gameDAO.delete(id);
+        });
     }
     // #endregion CRUD Operations
 
@@ -170,6 +181,14 @@ public class GameService {
         return gameDAO.findById(id);
     }
 
+    public Game findById(Long id, FetchPlan plan) {
+        return gameDAO.findById(id, plan);
+    }
+
+    public CompletableFuture<Game> findByIdAsync(Long id, FetchPlan plan) {
+        return gameDAO.findByIdAsync(id, plan);
+    }
+
     public Game findByName(String name) {
         return gameDAO.findByName(name);
     }
@@ -178,6 +197,10 @@ public class GameService {
         return gameDAO.findAll();
     }
 
+    public MyLinkedList<ListableDTO> findAllListable() {
+        return gameDAO.findAllListable();
+    }
+
     public MyLinkedList<Game> findByNameContaining(String term) {
         return gameDAO.findByNameContaining(term);
     }
@@ -209,5 +232,36 @@ public class GameService {
     public MyLinkedList<Game> listByRatingGreaterThan(Double minRating) {
         return gameDAO.findByRatingGreaterThan(minRating);
     }
+
+    /** Games matching every criterion of {@code query}; an empty query lists all games. */
+    public MyLinkedList<Game> search(GameQuery query) {
+        return gameDAO.search(query);
+    }
     // #endregion Read-Only Operations
+
+    // #region Paged Read-Only Operations
+    public Page<Game> findPage(Long afterId, int limit, FetchPlan plan) {
+        return gameDAO.findPage(afterId, limit, plan);
+    }
+
+    public Page<Game> findByNameContaining(String term, Long afterId, int limit, FetchPlan plan) {
+        return gameDAO.findByNameContaining(term, afterId, limit, plan);
+    }
+
+    public Page<Game> listByGenreId(Long id, Long afterId, int limit, FetchPlan plan) {
+        return gameDAO.findByGenreId(id, afterId, limit, plan);
+    }
+
+    public Page<Game> listByPlatformId(Long id, Long afterId, int limit, FetchPlan plan) {
+        return gameDAO.findByPlatformId(id, afterId, limit, plan);
+    }
+
+    public Page<Game> listByDeveloperId(Long id, Long afterId, int limit, FetchPlan plan) {
+        return gameDAO.findByDeveloperId(id, afterId, limit, plan);
+    }
+
+    public Page<Game> search(GameQuery query, Long afterId, int limit, FetchPlan plan) {
+        return gameDAO.search(query, afterId, limit, plan);
+    }
+    // #endregion Paged Read-Only Operations
 }
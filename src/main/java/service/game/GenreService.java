@@ -1,10 +1,13 @@
 package service.game;
 
 import model.game.Genre;
+import dao.UnitOfWork;
 import dao.game.GenreDAO;
+import dto.ListableDTO;
 import service.exception.ServiceException;
 import service.exception.ValidationException;
 import utils.MyLinkedList;
+import java.util.concurrent.CompletableFuture;
 
 public class GenreService {
 
@@ -21,13 +24,15 @@ public class GenreService {
             throw new ValidationException("Nome do gênero não pode estar vazio.");
         }
 
-        if (genreDAO.findByName(name.trim()) != null) {
-            throw new ValidationException("Já existe um gênero com o nome '" + name + "'.");
-        }
+        return UnitOfWork.executeInTransaction(() -> {
+            if (genreDAO.findByName(name.trim()) != null) {
+                throw new ValidationException("Já existe um gênero com o nome '" + name + "'.");
+            }
 
-        Genre newGenre = new Genre(name.trim());
-        genreDAO.save(newGenre);
-        return newGenre;
+            Genre newGenre = new Genre(name.trim());
+            genreDAO.save(newGenre);
+            return newGenre;
+        });
     }
 
     public Genre updateGenre(Long id, String name) throws ServiceException, ValidationException {
@@ -39,18 +44,20 @@ public class GenreService {
             throw new ValidationException("Nome do gênero não pode estar vazio.");
         }
 
-        Genre existing = genreDAO.findById(id);
-        if (existing == null) {
-            throw new ValidationException("Gênero com ID " + id + " não encontrado.");
-        }
+        return UnitOfWork.executeInTransaction(() -> {
+            Genre existing = genreDAO.findById(id);
+            if (existing == null) {
+                throw new ValidationException("Gênero com ID " + id + " não encontrado.");
+            }
 
-        Genre duplicate = genreDAO.findByName(name.trim());
-        if (duplicate != null && !duplicate.getId().equals(id)) {
-            throw new ValidationException("Já existe outro gênero com o nome '" + name + "'.");
-        }
+            Genre duplicate = genreDAO.findByName(name.trim());
+            if (duplicate != null && !duplicate.getId().equals(id)) {
+                throw new ValidationException("Já existe outro gênero com o nome '" + name + "'.");
+            }
 
-        existing.setName(name.trim());
-        return genreDAO.update(existing);
+            existing.setName(name.trim());
+            return genreDAO.update(existing);
+        });
     }
 
     public void deleteGenre(Long id) throws ServiceException {
@@ -66,33 +73,43 @@ public class GenreService {
             throw new ValidationException("Nome do gênero não pode estar vazio.");
         }
 
-        Genre existing = genreDAO.findByName(name.trim());
-        if (existing != null) {
-            return existing;
-        }
-
-        Genre newDev = new Genre();
-        newDev.setName(name.trim());
-        genreDAO.save(newDev);
-        return newDev;
+        return UnitOfWork.executeInTransaction(() -> {
+            Genre existing = genreDAO.findByName(name.trim());
+            if (existing != null) {
+                return existing;
+            }
+
+            Genre newDev = new Genre();
+            newDev.setName(name.trim());
+            genreDAO.save(newDev);
+            return newDev;
+        });
     }
     // #endregion Create or Find
 
     // #region Read-Only Operations
     public Genre findById(Long id) throws ServiceException {
-        return genreDAO.executeReadOnly(em -> genreDAO.findById(id));
+        return genreDAO.findById(id);
     }
 
     public Genre findByName(String name) throws ServiceException {
-        return genreDAO.executeReadOnly(em -> genreDAO.findByName(name));
+        return genreDAO.findByName(name);
     }
 
     public MyLinkedList<Genre> findAll() throws ServiceException {
-        return genreDAO.executeReadOnly(em -> genreDAO.findAll());
+        return genreDAO.findAll();
+    }
+
+    public MyLinkedList<ListableDTO> findAllListable() throws ServiceException {
+        return genreDAO.findAllListable();
+    }
+
+    public CompletableFuture<MyLinkedList<ListableDTO>> findAllListableAsync() {
+        return genreDAO.findAllListableAsync();
     }
 
     public MyLinkedList<Genre> findByNameContaining(String term) throws ServiceException {
-        return genreDAO.executeReadOnly(em -> genreDAO.findByNameContaining(term));
+        return genreDAO.findByNameContaining(term);
     }
     // #endregion Read-Only Operations
 }
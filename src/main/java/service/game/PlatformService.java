@@ -1,10 +1,13 @@
 package service.game;
 
 import model.game.Platform;
+import dao.UnitOfWork;
 import dao.game.PlatformDAO;
+import dto.ListableDTO;
 import service.exception.ServiceException;
 import service.exception.ValidationException;
 import utils.MyLinkedList;
+import java.util.concurrent.CompletableFuture;
 
 public class PlatformService {
 
@@ -22,14 +25,15 @@ public class PlatformService {
             throw new ValidationException("Nome da plataforma não pode estar vazio.");
         }
 
-        if (platformDAO.findByName(name.trim()) != null) {
-            throw new ValidationException("Já existe uma plataforma com o nome '" + name + "'.");
-        }
-
-        Platform platform = new Platform(name.trim());
-        platformDAO.save(platform);
-        return platform;
+        return UnitOfWork.executeInTransaction(() -> {
+            if (platformDAO.findByName(name.trim()) != null) {
+                throw new ValidationException("Já existe uma plataforma com o nome '" + name + "'.");
+            }
 
+            Platform platform = new Platform(name.trim());
+            platformDAO.save(platform);
+            return platform;
+        });
     }
 
     public Platform updatePlatform(Long id, String name)
@@ -42,19 +46,20 @@ public class PlatformService {
             throw new ValidationException("Nome da plataforma não pode estar vazio.");
         }
 
-        Platform existing = platformDAO.findById(id);
-        if (existing == null) {
-            throw new ValidationException("Plataforma com ID " + id + " não encontrada.");
-        }
-
-        Platform duplicate = platformDAO.findByName(name.trim());
-        if (duplicate != null && !duplicate.getId().equals(id)) {
-            throw new ValidationException("Já existe outra plataforma com o nome '" + name + "'.");
-        }
+        return UnitOfWork.executeInTransaction(() -> {
+            Platform existing = platformDAO.findById(id);
+            if (existing == null) {
+                throw new ValidationException("Plataforma com ID " + id + " não encontrada.");
+            }
 
-        existing.setName(name.trim());
-        return platformDAO.update(existing);
+            Platform duplicate = platformDAO.findByName(name.trim());
+            if (duplicate != null && !duplicate.getId().equals(id)) {
+                throw new ValidationException("Já existe outra plataforma com o nome '" + name + "'.");
+            }
 
+            existing.setName(name.trim());
+            return platformDAO.update(existing);
+        });
     }
 
     public void deletePlatform(Long id) throws ServiceException {
@@ -70,15 +75,16 @@ public class PlatformService {
             throw new ValidationException("Nome da plataforma não pode estar vazio.");
         }
 
-        Platform existing = platformDAO.findByName(name.trim());
-        if (existing != null) {
-            return existing;
-        }
-
-        Platform platform = new Platform(name.trim());
-        platformDAO.save(platform);
-        return platform;
+        return UnitOfWork.executeInTransaction(() -> {
+            Platform existing = platformDAO.findByName(name.trim());
+            if (existing != null) {
+                return existing;
+            }
 
+            Platform platform = new Platform(name.trim());
+            platformDAO.save(platform);
+            return platform;
+        });
     }
     // #endregion Create or Find
 
@@ -95,6 +101,14 @@ public class PlatformService {
         return platformDAO.findAll();
     }
 
+    public MyLinkedList<ListableDTO> findAllListable() throws ServiceException {
+        return platformDAO.findAllListable();
+    }
+
+    public CompletableFuture<MyLinkedList<ListableDTO>> findAllListableAsync() {
+        return platformDAO.findAllListableAsync();
+    }
+
     public MyLinkedList<Platform> findByNameContaining(String term) throws ServiceException {
         return platformDAO.findByNameContaining(term);
     }
@@ -2,6 +2,7 @@
 package service.session;
 
 import model.user.User;
+import dao.UnitOfWork;
 import dao.user.UserDAO;
 import service.exception.ServiceException;
 import service.exception.ValidationException;
@@ -14,7 +15,7 @@ public class AuthService {
 
     private final UserDAO userDAO = new UserDAO();
 
-    private String hashPassword(String plain) {
+    public String hashPassword(String plain) {
         try {
             MessageDigest md = MessageDigest.getInstance("SHA-256");
             byte[] digest = md.digest(plain.getBytes(StandardCharsets.UTF_8));
@@ -31,13 +32,15 @@ public class AuthService {
         if (password == null || password.length() < 6) {
             throw new ValidationException("Senha deve ter pelo menos 6 caracteres");
         }
-        if (userDAO.findByName(name.trim()) != null) {
-            throw new ValidationException("Nome já existe");
-        }
+        return UnitOfWork.executeInTransaction(() -> {
+            if (userDAO.findByName(name.trim()) != null) {
+                throw new ValidationException("Nome já existe");
+            }
 
-        User user = new User(name.trim(), hashPassword(password));
-        userDAO.save(user);
-        return sanitize(user);
+            User user = new User(name.trim(), hashPassword(password));
+            userDAO.save(user);
+            return sanitize(user);
+        });
     }
 
     public User login(String name, String password) throws ServiceException {
@@ -49,15 +52,17 @@ public class AuthService {
     }
 
     public void changePassword(Long userId, String current, String nova) throws ValidationException {
-        User user = userDAO.findById(userId);
-        if (!hashPassword(current).equals(user.getPassword())) {
-            throw new ValidationException("Senha atual incorreta");
-        }
-        if (nova.length() < 6) {
-            throw new ValidationException("Nova senha muito curta");
-        }
-        user.setPassword(hashPassword(nova));
-        userDAO.update(user);
+        UnitOfWork.performInTransaction(() -> {
+            User user = userDAO.findById(userId);
+            if (!hashPassword(current).equals(user.getPassword())) {
+                throw new ValidationException("Senha atual incorreta");
+            }
+            if (nova.length() < 6) {
+                throw new ValidationException("Nova senha muito curta");
+            }
+            user.setPassword(hashPassword(nova));
+            userDAO.update(user);
+        });
     }
 
     private User sanitize(User u) {
@@ -3,9 +3,12 @@ package service.user;
 import model.user.FriendRequest;
 import model.user.FriendRequestState;
 import model.user.User;
+import dao.UnitOfWork;
 import dao.user.FriendRequestDAO;
 import dao.user.UserDAO;
 import service.exception.ValidationException;
+import utils.MyLinkedList;
+import java.util.EnumSet;
 import java.util.Set;
 
 public class FriendshipService {
@@ -14,55 +17,67 @@ public class FriendshipService {
     private final FriendRequestDAO requestDAO = new FriendRequestDAO();
 
     public FriendRequest sendFriendRequest(Long fromUserId, Long toUserId) throws ValidationException {
-        User from = userDAO.findById(fromUserId);
-        User to = userDAO.findById(toUserId);
+        return UnitOfWork.executeInTransaction(() -> {
+            // Existência dos dois usuários numa consulta, e amizade e pendência noutra
+            long expected = fromUserId.equals(toUserId) ? 1 : 2;
+            if (userDAO.countById(MyLinkedList.of(fromUserId, toUserId)) < expected) {
+                throw new ValidationException("Usuário não encontrado");
+            }
+            if (fromUserId.equals(toUserId)) throw new ValidationException("Você não pode se adicionar");
 
-        if (from == null || to == null) throw new ValidationException("Usuário não encontrado");
-        if (fromUserId.equals(toUserId)) throw new ValidationException("Você não pode se adicionar");
+            Set<FriendRequestState> states = requestDAO.findStatusesBetween(fromUserId, toUserId,
+                    EnumSet.of(FriendRequestState.ACCEPTED, FriendRequestState.PENDING));
+            if (states.contains(FriendRequestState.ACCEPTED)) {
+                throw new ValidationException("Já são amigos");
+            }
+            if (states.contains(FriendRequestState.PENDING)) {
+                throw new ValidationException("Já existe solicitação pendente");
+            }
+            // Referências, não usuários carregados: com a gestão de associações do enhancement,
+            // um remetente carregado teria sentRequests lido só para receber a solicitação
+            FriendRequest req = new FriendRequest(userDAO.reference(fromUserId), userDAO.reference(toUserId),
+                    FriendRequestState.PENDING);
 
-        if (requestDAO.findFriendsByUserId(fromUserId).stream()
-                .anyMatch(u -> u.getId().equals(toUserId))) {
-            throw new ValidationException("Já são amigos");
-        }
-        if (requestDAO.existsPendingBetween(fromUserId, toUserId)) {
-            throw new ValidationException("Já existe solicitação pendente");
-        }
-        FriendRequest req = new FriendRequest(from, to, FriendRequestState.PENDING);
-        
-        requestDAO.save(req);
-        from.getSentRequests().add(req);
-        return req;
+            requestDAO.save(req);
+            return req;
+        });
     }
 
     public void acceptRequest(Long requestId, Long userId) throws ValidationException {
-        FriendRequest req = requestDAO.findById(requestId);
-        if (req == null || !req.getToUser().getId().equals(userId)) {
-            throw new ValidationException("Solicitação inválida");
-        }
-        if (req.getStatus() != FriendRequestState.PENDING) {
-            throw new ValidationException("Solicitação já respondida");
-        }
+        UnitOfWork.performInTransaction(() -> {
+            FriendRequest req = requestDAO.findById(requestId);
+            if (req == null || !req.getToUser().getId().equals(userId)) {
+                throw new ValidationException("Solicitação inválida");
+            }
+            if (req.getStatus() != FriendRequestState.PENDING) {
+                throw new ValidationException("Solicitação já respondida");
+            }
 
-        req.setStatus(FriendRequestState.ACCEPTED);
-        requestDAO.update(req);
+            req.setStatus(FriendRequestState.ACCEPTED);
+            requestDAO.update(req);
+        });
     }
 
     public void acceptFriendRequestBetween(Long senderId, Long receiverId) throws ValidationException {
-        FriendRequest req = getPendingReceived(receiverId).stream()
-                .filter(r -> r.getFromUser().getId().equals(senderId))
-                .findFirst()
-                .orElseThrow(() -> new ValidationException("Solicitação não encontrada entre os usuários"));
-        acceptRequest(req.getId(), receiverId);
+        UnitOfWork.performInTransaction(() -> {
+            FriendRequest req = getPendingReceived(receiverId).stream()
+                    .filter(r -> r.getFromUser().getId().equals(senderId))
+                    .findFirst()
+                    .orElseThrow(() -> new ValidationException("Solicitação não encontrada entre os usuários"));
+            acceptRequest(req.getId(), receiverId);
+        });
     }
 
     public void rejectRequest(Long requestId, Long userId) throws ValidationException {
-        FriendRequest req = requestDAO.findById(requestId);
-        if (req == null || !req.getToUser().getId().equals(userId)) {
-            throw new ValidationException("Solicitação inválida");
-        }
+        UnitOfWork.performInTransaction(() -> {
+            FriendRequest req = requestDAO.findById(requestId);
+            if (req == null || !req.getToUser().getId().equals(userId)) {
+                throw new ValidationException("Solicitação inválida");
+            }
 
-        req.setStatus(FriendRequestState.REJECTED);
-        requestDAO.update(req);
+            req.setStatus(FriendRequestState.REJECTED);
+            requestDAO.update(req);
+        });
     }
 
     // #region Read-Only Operations
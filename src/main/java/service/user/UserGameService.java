@@ -2,6 +2,7 @@ package service.user;
 
 import model.user.UserGame;
 import model.user.UserGameState;
+import dao.UnitOfWork;
 import dao.user.UserGameDAO;
 import service.exception.ServiceException;
 import service.exception.ValidationException;
@@ -23,7 +24,7 @@ public class UserGameService {
             double totalTimePlayed,
             LocalDateTime lastPlayed)
             throws ServiceException {
-
+        return UnitOfWork.executeInTransaction(() -> {
             UserGame userGame = userGameDAO.findByUserAndGame(userId, gameId);
             if (userGame == null) {
                 throw new ValidationException("Usuário não possui este jogo em sua biblioteca.");
@@ -39,10 +40,11 @@ public class UserGameService {
             userGame.setLastTimePlayed(lastPlayed);
 
             return userGameDAO.update(userGame);
+        });
     }
 
     public UserGame updateEstimated(Long userId, Long gameId, boolean estimated) throws ServiceException {
-        
+        return UnitOfWork.executeInTransaction(() -> {
             UserGame userGame = userGameDAO.findByUserAndGame(userId, gameId);
             if (userGame == null) {
                 throw new ValidationException("Usuário não possui este jogo em sua biblioteca.");
@@ -50,9 +52,11 @@ public class UserGameService {
 
             userGame.setEstimated(estimated);
             return userGameDAO.update(userGame);
+        });
     }
 
     public UserGame updateGameState(Long userId, Long gameId, UserGameState newState) throws ServiceException {
+        return UnitOfWork.executeInTransaction(() -> {
             UserGame userGame = userGameDAO.findByUserAndGame(userId, gameId);
             if (userGame == null) {
                 throw new ValidationException("Usuário não possui este jogo em sua biblioteca.");
@@ -60,9 +64,11 @@ public class UserGameService {
 
             userGame.setGameState(newState);
             return userGameDAO.update(userGame);
+        });
     }
 
     public UserGame updateTotalTimePlayed(Long userId, Long gameId, double newTime) throws ServiceException {
+        return UnitOfWork.executeInTransaction(() -> {
             UserGame userGame = userGameDAO.findByUserAndGame(userId, gameId);
             if (userGame == null) {
                 throw new ValidationException("Usuário não possui este jogo em sua biblioteca.");
@@ -74,9 +80,11 @@ public class UserGameService {
 
             userGame.setTotaltimePlayed(newTime);
             return userGameDAO.update(userGame);
+        });
     }
 
     public UserGame updateLastTimePlayed(Long userId, Long gameId, LocalDateTime dateTime) throws ServiceException {
+        return UnitOfWork.executeInTransaction(() -> {
             UserGame userGame = userGameDAO.findByUserAndGame(userId, gameId);
             if (userGame == null) {
                 throw new ValidationException("Usuário não possui este jogo em sua biblioteca.");
@@ -84,6 +92,7 @@ public class UserGameService {
 
             userGame.setLastTimePlayed(dateTime);
             return userGameDAO.update(userGame);
+        });
     }
     // #endregion Attribute Update Methods
 
@@ -3,8 +3,12 @@ package service.user;
 import model.game.Game;
 import model.user.User;
 import model.user.UserGame;
+import dao.FetchPlan;
+import dao.Page;
+import dao.UnitOfWork;
 import dao.game.GameDAO;
 import dao.user.UserDAO;
+import dto.ListableDTO;
 import service.exception.ServiceException;
 import service.exception.ValidationException;
 import static core.AppConfig.ADMIN_PASSWORD;
@@ -20,54 +24,62 @@ public class UserService {
     public User updateUserProfile(Long id, String name, LocalDate birthDate) {
 
         validateProfileUpdateData(name);
-        User user = userDAO.findById(id);
-        if (user == null) {
-            throw new ValidationException("Usuário não encontrado.");
-        }
+        return UnitOfWork.executeInTransaction(() -> {
+            User user = userDAO.findById(id);
+            if (user == null) {
+                throw new ValidationException("Usuário não encontrado.");
+            }
 
-        if (!user.getName().equals(name.trim())) {
-            if (userDAO.findByName(name.trim()) != null) {
-                throw new ValidationException("Nome já em uso.");
+            if (!user.getName().equals(name.trim())) {
+                if (userDAO.findByName(name.trim()) != null) {
+                    throw new ValidationException("Nome já em uso.");
+                }
             }
-        }
 
-        user.setName(name.trim());
-        user.setBirthDate(birthDate);
-        return userDAO.update(user);
+            user.setName(name.trim());
+            user.setBirthDate(birthDate);
+            return userDAO.update(user);
+        });
     }
 
     public void deleteUser(Long id) throws ServiceException {
-        User user = userDAO.findById(id);
-        if (user == null) {
-            throw new ServiceException("Usuário não encontrado.");
-        }
-        
-        userDAO.delete(id);
+        UnitOfWork.performInTransaction(() -> {
+            User user = userDAO.findById(id);
+            if (user == null) {
+                throw new ServiceException("Usuário não encontrado.");
+            }
+
+            userDAO.delete(id);
+        });
     }
 
     public void addGameToLibrary(Long userId, String gameName) {
-        User user = userDAO.findById(userId);
-        Game game = gameDAO.findByName(gameName);
-        if (user == null || game == null) {
-            throw new ValidationException("Usuário ou jogo não encontrado.");
-        }
+        UnitOfWork.performInTransaction(() -> {
+            User user = userDAO.findById(userId);
+            Game game = gameDAO.findByName(gameName);
+            if (user == null || game == null) {
+                throw new ValidationException("Usuário ou jogo não encontrado.");
+            }
 
-        if (user.getUserGames().stream().anyMatch(ug -> ug.getGame().getId().equals(game.getId()))) {
-            throw new ValidationException("Você já possui este jogo.");
-        }
+            if (user.getUserGames().stream().anyMatch(ug -> ug.getGame().getId().equals(game.getId()))) {
+                throw new ValidationException("Você já possui este jogo.");
+            }
 
-        user.getUserGames().add(new UserGame(user, game));
-        userDAO.update(user);
+            user.getUserGames().add(new UserGame(user, game));
+            userDAO.update(user);
+        });
     }
 
     public void removeGameFromLibrary(Long userId, Long gameId) {
-        User user = userDAO.findById(userId);
-        if (user == null) {
-            throw new ValidationException("Usuário não encontrado.");
-        }
+        UnitOfWork.performInTransaction(() -> {
+            User user = userDAO.findById(userId);
+            if (user == null) {
+                throw new ValidationException("Usuário não encontrado.");
+            }
 
-        user.getUserGames().removeIf(ug -> ug.getGame().getId().equals(gameId));
-        userDAO.update(user);
+            user.getUserGames().removeIf(ug -> ug.getGame().getId().equals(gameId));
+            userDAO.update(user);
+        });
     }
 
     public void passIsValid() {
@@ -83,6 +95,10 @@ public class UserService {
         return userDAO.findById(id);
     }
 
+    public User findById(Long id, FetchPlan plan) throws ServiceException {
+        return userDAO.findById(id, plan);
+    }
+
     public User findByName(String name) throws ServiceException {
         return userDAO.findByName(name.trim());
     }
@@ -91,6 +107,18 @@ public class UserService {
         return userDAO.findAll();
     }
 
+    public MyLinkedList<ListableDTO> findAllListable() throws ServiceException {
+        return userDAO.findAllListable();
+    }
+
+    public Page<User> findPage(Long afterId, int limit) throws ServiceException {
+        return userDAO.findPage(afterId, limit);
+    }
+
+    public Page<ListableDTO> findListablePage(Long afterId, int limit) throws ServiceException {
+        return userDAO.findListablePage(afterId, limit);
+    }
+
     private void validateProfileUpdateData(String name) {
         if (name == null || name.trim().length() < 3) {
             throw new ValidationException("Nome deve ter pelo menos 3 caracteres.");
@@ -1,5 +1,6 @@
 package utils;
 
+import dao.OperationTimeoutException;
 import service.exception.ServiceException;
 import service.exception.ValidationException;
 
@@ -78,6 +79,11 @@ public final class MenuRenderer {
     public static void renderServiceException(ServiceException e) {
         System.out.println("\u001B[33mErro no serviço: " + e.getMessage() + "\u001B[0m");
     }
+
+    public static void renderTimeoutException(OperationTimeoutException e) {
+        System.out.println("\u001B[33mTempo esgotado: " + e.getMessage()
+                + ". Refine a busca e tente novamente.\u001B[0m");
+    }
     public static void renderException(Exception e) {
         System.out.println("\u001B[33mErro inesperado: " + e.getMessage() + "\u001B[0m");
     }
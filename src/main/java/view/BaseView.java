@@ -2,14 +2,19 @@ package view;
 
 import utils.MyLinkedList;
 
+import dao.OperationTimeoutException;
+import dao.Page;
 import model.common.Listable;
 import service.exception.ServiceException;
 import service.exception.ValidationException;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 import core.Navigation;
+import core.StartupTimer;
 import utils.ConsoleUtils;
 import utils.MenuRenderer;
 
@@ -19,6 +24,7 @@ public abstract class BaseView {
         ConsoleUtils.clearScreen();
         MenuRenderer.renderBanner(Navigation.getPath());
         MenuRenderer.renderOptions(options);
+        StartupTimer.markFirstPrompt();
         return ConsoleUtils.readInteger("Escolha: ", null);
     }
 
@@ -67,6 +73,26 @@ public abstract class BaseView {
         }
     }
 
+    /**
+     * Renders a keyset-paged listing one page at a time, loading the next page
+     * only when the user asks for it.
+     */
+    public <T> void browsePages(Function<Long, Page<T>> pageLoader, Consumer<MyLinkedList<T>> pageRenderer) {
+        Long afterId = null;
+        while (true) {
+            Page<T> page = pageLoader.apply(afterId);
+            pageRenderer.accept(page.getItems());
+            if (!page.hasNext()) {
+                return;
+            }
+            String next = ConsoleUtils.readString("Enter para a próxima página, 0 para parar: ", "");
+            if (next.trim().equals("0")) {
+                return;
+            }
+            afterId = page.getNextAfterId();
+        }
+    }
+
     public void renderMessage(String msg) {
         MenuRenderer.renderMessage(msg);
     }
@@ -87,6 +113,10 @@ public abstract class BaseView {
         MenuRenderer.renderServiceException(e);
     }
 
+    public void renderTimeoutException(OperationTimeoutException e) {
+        MenuRenderer.renderTimeoutException(e);
+    }
+
     public void renderException(Exception e) {
         MenuRenderer.renderException(e);
     }
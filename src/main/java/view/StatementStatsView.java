@@ -0,0 +1,69 @@
+package view;
+
+import dao.RetryMetrics;
+import dao.TimeoutMetrics;
+import dao.game.FinderCacheMetrics;
+import dao.pool.StatementStats;
+import java.util.List;
+
+public class StatementStatsView extends BaseView {
+
+    private static final int SQL_PREVIEW_LENGTH = 120;
+
+    public void renderStatementStats(List<StatementStats.Entry> entries, int limit) {
+        if (entries.isEmpty()) {
+            renderMessageLine("Nenhum comando SQL registrado.");
+            return;
+        }
+
+        renderMessageLine(String.format("%8s %12s %10s %10s %10s  %s",
+                "Execs", "Total (ms)", "Média (ms)", "Máx (ms)", "Linhas", "SQL"));
+        int shown = 0;
+        for (StatementStats.Entry entry : entries) {
+            if (shown++ == limit) {
+                break;
+            }
+            renderMessageLine(String.format("%8d %12.1f %10.2f %10.2f %10d  %s",
+                    entry.getExecutions(),
+                    entry.getTotalMillis(),
+                    entry.getAverageMillis(),
+                    entry.getMaxMillis(),
+                    entry.getRows(),
+                    preview(entry.getSql())));
+        }
+        renderMessageLine("Formatos de SQL registrados: " + entries.size());
+    }
+
+    public void renderStartupTimes(long firstPromptMillis, long bootstrapMillis) {
+        renderMessageLine("Primeiro prompt: " + (firstPromptMillis < 0 ? "não medido" : firstPromptMillis + " ms"));
+        renderMessageLine("Inicialização do Hibernate: " + bootstrapMillis + " ms");
+    }
+
+    public void renderRetryMetrics(RetryMetrics metrics) {
+        renderMessageLine("Falhas transitórias: " + metrics.getTransientFailures());
+        renderMessageLine("Retentativas: " + metrics.getRetries());
+        renderMessageLine("Recuperadas após retentativa: " + metrics.getRecovered());
+        renderMessageLine("Esgotadas: " + metrics.getExhausted());
+        renderMessageLine("Negadas pelo orçamento: " + metrics.getBudgetRejections());
+    }
+
+    public void renderFinderCacheMetrics(FinderCacheMetrics metrics, int entries) {
+        renderMessageLine("Entradas em cache: " + entries);
+        renderMessageLine("Acertos: " + metrics.getHits());
+        renderMessageLine("Faltas: " + metrics.getMisses());
+        renderMessageLine(String.format("Taxa de acerto: %.1f%%", metrics.getHitRatio() * 100));
+        renderMessageLine("Entradas invalidadas: " + metrics.getInvalidations());
+        renderMessageLine("Resultados descartados (escrita concorrente): " + metrics.getStalePuts());
+    }
+
+    public void renderTimeoutMetrics(TimeoutMetrics metrics) {
+        renderMessageLine("Comandos cancelados por timeout: " + metrics.getQueryTimeouts());
+        renderMessageLine("Leituras em cursor interrompidas: " + metrics.getCancellations());
+        metrics.getByOperation().forEach((operation, count) ->
+                renderMessageLine(String.format("  %-45s %6d", operation, count)));
+    }
+
+    private static String preview(String sql) {
+        return sql.length() <= SQL_PREVIEW_LENGTH ? sql : sql.substring(0, SQL_PREVIEW_LENGTH) + "...";
+    }
+}
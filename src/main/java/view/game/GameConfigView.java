@@ -1,26 +1,26 @@
 package view.game;
 
-import model.game.Developer;
 import model.game.Game;
-import model.game.Genre;
-import model.game.Platform;
 import view.BaseView;
 import utils.ConsoleUtils;
 import utils.MyLinkedList;
 
 import java.time.LocalDate;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import dao.Page;
 import dto.GameDTO;
+import dto.ListableDTO;
 
 public final class GameConfigView extends BaseView {
 
     // Create
     public GameDTO promptGameCreation(
-            MyLinkedList<Genre> genres,
-            MyLinkedList<Platform> platforms,
-            MyLinkedList<Developer> devs
+            MyLinkedList<ListableDTO> genres,
+            MyLinkedList<ListableDTO> platforms,
+            MyLinkedList<ListableDTO> devs
     ) {
         System.out.println("[ ADICIONAR NOVO JOGO ]");
 
@@ -42,9 +42,9 @@ public final class GameConfigView extends BaseView {
     // Update
     public GameDTO promptGameUpdate(
             Game existingGame,
-            MyLinkedList<Genre> genres,
-            MyLinkedList<Platform> platforms,
-            MyLinkedList<Developer> devs
+            MyLinkedList<ListableDTO> genres,
+            MyLinkedList<ListableDTO> platforms,
+            MyLinkedList<ListableDTO> devs
     ) {
         renderMessageLine("[ ATUALIZAR JOGO ]");
 
@@ -89,22 +89,24 @@ public final class GameConfigView extends BaseView {
         );
     }
 
-    public void genericGameFinderString(String msg1, String msg2, Function<String, MyLinkedList<Game>> searchFunction) {
+    public void genericGameFinderString(String msg1, String msg2, BiFunction<String, Long, Page<Game>> searchFunction) {
         String input = ConsoleUtils.readString(msg1, null);
-        MyLinkedList<Game> games = searchFunction.apply(input);
-        if (games.isEmpty()) {
-            renderMessageLine("Nenhum game encontrado para o " + msg2 + "'" + input + "'.");
-        }
-        displayGameList(games);
+        browseGames(msg2, input, afterId -> searchFunction.apply(input, afterId));
     }
 
-    public void genericGameFinderLong(String msg1, String msg2, Function<Long, MyLinkedList<Game>> searchFunction) {
+    public void genericGameFinderLong(String msg1, String msg2, BiFunction<Long, Long, Page<Game>> searchFunction) {
         Long input = ConsoleUtils.readLong(msg1, null);
-        MyLinkedList<Game> games = searchFunction.apply(input);
-        if (games.isEmpty()) {
-            renderMessageLine("Nenhum game encontrado para o " + msg2 + "'" + input + "'.");
-        }
-        displayGameList(games);
+        browseGames(msg2, input, afterId -> searchFunction.apply(input, afterId));
+    }
+
+    private void browseGames(String msg2, Object input, Function<Long, Page<Game>> pageLoader) {
+        browsePages(afterId -> {
+            Page<Game> page = pageLoader.apply(afterId);
+            if (afterId == null && page.isEmpty()) {
+                renderMessageLine("Nenhum game encontrado para o " + msg2 + "'" + input + "'.");
+            }
+            return page;
+        }, this::displayGameList);
     }
 
     public void displayGameList(MyLinkedList<Game> games) {
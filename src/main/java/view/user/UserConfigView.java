@@ -9,6 +9,7 @@ import utils.MyLinkedList;
 import java.time.LocalDate;
 import java.util.Set;
 
+import dto.ListableDTO;
 import dto.UserDTO;
 
 public class UserConfigView extends BaseView {
@@ -48,7 +49,7 @@ public class UserConfigView extends BaseView {
                 ConsoleUtils.formatDateTime(r.getCreatedAt())));
     }
 
-    public void listAllUsers(MyLinkedList<User> users) {
+    public void listAllUsers(MyLinkedList<ListableDTO> users) {
         renderMessageLine("[ LISTA DE USUÁRIOS ]");
         if (users.isEmpty()) {
             renderMessageLine("Nenhum usuário cadastrado.");
@@ -0,0 +1,19 @@
+-- Índices das buscas dos DAOs (os mesmos declarados em @Table(indexes = ...)).
+-- Bancos novos recebem os índices do hbm2ddl; este script é para bancos já existentes.
+-- Executar uma única vez, no MySQL: mysql -u <usuário> -p <banco> < 001_finder_indexes.sql
+
+-- GameDAO: findByName, findPageOrderedByName, findByRatingGreaterThan
+CREATE INDEX idx_games_name ON games (name);
+CREATE INDEX idx_games_rating ON games (rating);
+
+-- UserDAO: findByName (login), findByBirthDate, findByAge
+CREATE INDEX idx_users_name ON users (name);
+CREATE INDEX idx_users_birth_date ON users (birth_date);
+
+-- UserGameDAO: findByGameState, findByEstimated
+CREATE INDEX idx_user_game_user_state ON user_game (user_id, game_state);
+CREATE INDEX idx_user_game_user_estimated ON user_game (user_id, estimated);
+
+-- FriendRequestDAO: solicitações recebidas/enviadas por status, mais recentes primeiro
+CREATE INDEX idx_friend_requests_to_status ON friend_requests (to_user_id, status, createdAt);
+CREATE INDEX idx_friend_requests_from_status ON friend_requests (from_user_id, status, createdAt);
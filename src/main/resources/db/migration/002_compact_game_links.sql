@@ -0,0 +1,42 @@
+-- Vínculos jogo-gênero/plataforma/desenvolvedor compactos: chave (game_id, <catálogo>_id),
+-- sem id substituto nem createdAt/updatedAt (model.game.GameGenre, GamePlatform, GameDeveloper).
+-- Cada tabela é recriada com o novo formato, os pares são copiados e a antiga é descartada.
+-- Executar uma única vez, com a aplicação parada, ANTES de subir a versão nova
+-- (o hbm2ddl update não troca a chave primária de uma tabela existente):
+-- mysql -u <usuário> -p <banco> < 002_compact_game_links.sql
+
+CREATE TABLE game_genres_new (
+    game_id BIGINT NOT NULL,
+    genre_id BIGINT NOT NULL,
+    PRIMARY KEY (game_id, genre_id),
+    CONSTRAINT fk_game_genres_game FOREIGN KEY (game_id) REFERENCES games (id),
+    CONSTRAINT fk_game_genres_genre FOREIGN KEY (genre_id) REFERENCES genres (id)
+);
+INSERT INTO game_genres_new (game_id, genre_id) SELECT DISTINCT game_id, genre_id FROM game_genres;
+DROP TABLE game_genres;
+ALTER TABLE game_genres_new RENAME TO game_genres;
+CREATE INDEX idx_game_genres_genre ON game_genres (genre_id, game_id);
+
+CREATE TABLE game_platforms_new (
+    game_id BIGINT NOT NULL,
+    platform_id BIGINT NOT NULL,
+    PRIMARY KEY (game_id, platform_id),
+    CONSTRAINT fk_game_platforms_game FOREIGN KEY (game_id) REFERENCES games (id),
+    CONSTRAINT fk_game_platforms_platform FOREIGN KEY (platform_id) REFERENCES platforms (id)
+);
+INSERT INTO game_platforms_new (game_id, platform_id) SELECT DISTINCT game_id, platform_id FROM game_platforms;
+DROP TABLE game_platforms;
+ALTER TABLE game_platforms_new RENAME TO game_platforms;
+CREATE INDEX idx_game_platforms_platform ON game_platforms (platform_id, game_id);
+
+CREATE TABLE game_developers_new (
+    game_id BIGINT NOT NULL,
+    developer_id BIGINT NOT NULL,
+    PRIMARY KEY (game_id, developer_id),
+    CONSTRAINT fk_game_developers_game FOREIGN KEY (game_id) REFERENCES games (id),
+    CONSTRAINT fk_game_developers_developer FOREIGN KEY (developer_id) REFERENCES developers (id)
+);
+INSERT INTO game_developers_new (game_id, developer_id) SELECT DISTINCT game_id, developer_id FROM game_developers;
+DROP TABLE game_developers;
+ALTER TABLE game_developers_new RENAME TO game_developers;
+CREATE INDEX idx_game_developers_developer ON game_developers (developer_id, game_id);
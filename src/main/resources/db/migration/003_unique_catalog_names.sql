@@ -0,0 +1,64 @@
+-- Nome único em gêneros, plataformas e desenvolvedores: a chave do @NaturalId (model.game.Genre,
+-- Platform, Developer), antes garantida só pelos services. O hbm2ddl não consegue criá-la se já
+-- houver nomes repetidos (só registra um aviso), então este script:
+--   1. lista os nomes repetidos (pela collation do banco: "RPG" e "rpg " contam como o mesmo nome);
+--   2. funde cada grupo no registro de menor id, movendo os vínculos com jogos para ele;
+--   3. cria a chave única.
+-- Executar uma única vez, com a aplicação parada, DEPOIS do 002_compact_game_links.sql:
+-- mysql -u <usuário> -p <banco> < 003_unique_catalog_names.sql
+-- Se o banco já rodou com o @NaturalId sem nome fixo, ele pode ter uma chave UK_... em name;
+-- confira com SHOW INDEX FROM genres (e platforms, developers) e remova-a com DROP INDEX.
+
+-- genres
+SELECT name, COUNT(*) AS total, MIN(id) AS mantido FROM genres GROUP BY name HAVING COUNT(*) > 1;
+
+CREATE TABLE genre_merge AS
+    SELECT t.id AS old_id, k.keep_id
+    FROM genres t
+    JOIN (SELECT name, MIN(id) AS keep_id FROM genres GROUP BY name) k ON k.name = t.name
+    WHERE t.id <> k.keep_id;
+INSERT INTO game_genres (game_id, genre_id)
+    SELECT DISTINCT l.game_id, m.keep_id
+    FROM game_genres l
+    JOIN genre_merge m ON m.old_id = l.genre_id
+    WHERE NOT EXISTS (SELECT 1 FROM game_genres x WHERE x.game_id = l.game_id AND x.genre_id = m.keep_id);
+DELETE FROM game_genres WHERE genre_id IN (SELECT old_id FROM genre_merge);
+DELETE FROM genres WHERE id IN (SELECT old_id FROM genre_merge);
+DROP TABLE genre_merge;
+ALTER TABLE genres ADD CONSTRAINT uk_genres_name UNIQUE (name);
+
+-- platforms
+SELECT name, COUNT(*) AS total, MIN(id) AS mantido FROM platforms GROUP BY name HAVING COUNT(*) > 1;
+
+CREATE TABLE platform_merge AS
+    SELECT t.id AS old_id, k.keep_id
+    FROM platforms t
+    JOIN (SELECT name, MIN(id) AS keep_id FROM platforms GROUP BY name) k ON k.name = t.name
+    WHERE t.id <> k.keep_id;
+INSERT INTO game_platforms (game_id, platform_id)
+    SELECT DISTINCT l.game_id, m.keep_id
+    FROM game_platforms l
+    JOIN platform_merge m ON m.old_id = l.platform_id
+    WHERE NOT EXISTS (SELECT 1 FROM game_platforms x WHERE x.game_id = l.game_id AND x.platform_id = m.keep_id);
+DELETE FROM game_platforms WHERE platform_id IN (SELECT old_id FROM platform_merge);
+DELETE FROM platforms WHERE id IN (SELECT old_id FROM platform_merge);
+DROP TABLE platform_merge;
+ALTER TABLE platforms ADD CONSTRAINT uk_platforms_name UNIQUE (name);
+
+-- developers
+SELECT name, COUNT(*) AS total, MIN(id) AS mantido FROM developers GROUP BY name HAVING COUNT(*) > 1;
+
+CREATE TABLE developer_merge AS
+    SELECT t.id AS old_id, k.keep_id
+    FROM developers t
+    JOIN (SELECT name, MIN(id) AS keep_id FROM developers GROUP BY name) k ON k.name = t.name
+    WHERE t.id <> k.keep_id;
+INSERT INTO game_developers (game_id, developer_id)
+    SELECT DISTINCT l.game_id, m.keep_id
+    FROM game_developers l
+    JOIN developer_merge m ON m.old_id = l.developer_id
+    WHERE NOT EXISTS (SELECT 1 FROM game_developers x WHERE x.game_id = l.game_id AND x.developer_id = m.keep_id);
+DELETE FROM game_developers WHERE developer_id IN (SELECT old_id FROM developer_merge);
+DELETE FROM developers WHERE id IN (SELECT old_id FROM developer_merge);
+DROP TABLE developer_merge;
+ALTER TABLE developers ADD CONSTRAINT uk_developers_name UNIQUE (name);
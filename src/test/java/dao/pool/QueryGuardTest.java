@@ -0,0 +1,118 @@
+package dao.pool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import dao.GenericDAO;
+import java.util.Map;
+import model.game.Genre;
+import model.user.FriendRequest;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import service.game.DeveloperService;
+import service.game.GameService;
+import service.game.GenreService;
+import service.game.PlatformService;
+import service.session.AuthService;
+import service.user.FriendshipService;
+import utils.MyLinkedList;
+
+/**
+ * Statement counts of service calls on the in-memory H2 profile (set by
+ * surefire): a call that starts issuing more statements fails here.
+ */
+class QueryGuardTest {
+
+    private static final GenreService genreService = new GenreService();
+    private static final GameService gameService = new GameService();
+    private static final FriendshipService friendshipService = new FriendshipService();
+
+    private static Long actionId;
+    private static Long rpgId;
+    private static Long horrorId;
+    private static Long platformId;
+    private static Long developerId;
+    private static Long aliceId;
+    private static Long brunoId;
+
+    @BeforeAll
+    static void seed() {
+        actionId = genreService.createGenre("Ação").getId();
+        rpgId = genreService.createGenre("RPG").getId();
+        horrorId = genreService.createGenre("Terror").getId();
+        platformId = new PlatformService().createPlatform("PC").getId();
+        developerId = new DeveloperService().createDeveloper("Estúdio").getId();
+
+        AuthService authService = new AuthService();
+        aliceId = authService.register("alice", "123456").getId();
+        brunoId = authService.register("bruno", "123456").getId();
+    }
+
+    // #region Budgets
+    @Test
+    void findByNameRunsOneStatement() {
+        Genre genre = QueryGuard.withBudget(1, () -> genreService.findByName("RPG"));
+
+        assertEquals(rpgId, genre.getId());
+    }
+
+    @Test
+    void sendFriendRequestStaysWithinBudget() {
+        // Os dois usuários, o estado entre eles e o INSERT; qualquer consulta a mais estoura o orçamento
+        FriendRequest request = QueryGuard.withBudget(3,
+                () -> friendshipService.sendFriendRequest(aliceId, brunoId));
+
+        assertNotNull(request.getId());
+    }
+
+    @Test
+    void exceededBudgetCarriesTheReport() {
+        QueryBudgetExceededException e = assertThrows(QueryBudgetExceededException.class,
+                () -> QueryGuard.withBudget(0, () -> genreService.findByName("Terror")));
+
+        assertEquals(1, e.getReport().getStatementCount());
+    }
+    // #endregion Budgets
+
+    // #region N+1
+    @Test
+    void measureFlagsPerIdLookupsInCreateGame() {
+        // Cache de segundo nível vazio: cada ID de gênero vai ao banco
+        GenericDAO.getSecondLevelCache().evictAll();
+
+        QueryReport report = QueryGuard.measure(() -> gameService.createGame("Jogo", null,
+                MyLinkedList.of(actionId, rpgId, horrorId), MyLinkedList.of(platformId), MyLinkedList.of(developerId)));
+
+        assertTrue(report.hasRepeatedStatements(), report::toString);
+        boolean genreLookupRepeated = false;
+        for (Map.Entry<String, Integer> repeated : report.getRepeatedStatements().entrySet()) {
+            if (repeated.getKey().startsWith("select") && repeated.getKey().contains("genres")
+                    && repeated.getValue() == 3) {
+                genreLookupRepeated = true;
+            }
+        }
+        assertTrue(genreLookupRepeated, report::toString);
+    }
+
+    @Test
+    void updateGameReadsTheGameOnce() {
+        Long gameId = gameService.createGame("Jogo Editado", null,
+                MyLinkedList.of(actionId), MyLinkedList.of(platformId), MyLinkedList.of(developerId)).getId();
+
+        QueryReport report = QueryGuard.measure(() -> gameService.updateGame(gameId, "Jogo Editado", null,
+                MyLinkedList.of(actionId, rpgId), MyLinkedList.of(platformId), MyLinkedList.of(developerId)));
+
+        // O jogo é relido uma vez, já com as coleções vazias: nenhuma releitura nem carga de coleção a limpar
+        for (Map.Entry<String, Integer> executed : report.getExecutionsBySql().entrySet()) {
+            String sql = executed.getKey();
+            if (sql.startsWith("select") && sql.matches("(?s).* from (\\w+\\.)?games .*")) {
+                assertEquals(1, executed.getValue(), report::toString);
+            }
+            assertFalse(sql.startsWith("select") && sql.matches("(?s).* where \\w+\\.game_id=\\?"), report::toString);
+        }
+    }
+    // #endregion N+1
+}